@@ -0,0 +1,36 @@
+package com.github.grimsa.pokerhands;
+
+import com.github.grimsa.pokerhands.deal.TwoPlayerDealsFactory;
+import com.github.grimsa.pokerhands.hand.HandFromFiveCardsFactory;
+import com.github.grimsa.pokerhands.hand.HandFromStringFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class DealHistoryBenchmark {
+    private static final int DEAL_COUNT = 1_000_000;
+
+    private List<String> lines;
+
+    @Setup
+    public void generateDeals() {
+        lines = GeneratedDeals.lines(DEAL_COUNT, 2, 54);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DEAL_COUNT)
+    public int countWinsOfPlayer() {
+        final var dealHistory = new DealHistory(
+                new TwoPlayerDealsFactory(
+                        () -> lines,
+                        new HandFromStringFactory(new HandFromFiveCardsFactory())
+                )
+        );
+        return dealHistory.countWinsOfPlayer(0);
+    }
+}
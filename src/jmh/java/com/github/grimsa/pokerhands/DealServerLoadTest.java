@@ -0,0 +1,100 @@
+package com.github.grimsa.pokerhands;
+
+import com.github.grimsa.generic.LatencyHistogram;
+import com.github.grimsa.pokerhands.deal.CardMasksFromStringFactory;
+import com.github.grimsa.pokerhands.hand.HandStrengths;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load-tests a {@link DealServer} on localhost with many concurrent clients, each sending deals one at a time and waiting
+ * for every answer, and reports the latency percentiles and the throughput along with the number of clients that failed.
+ * <p>
+ * Run with the number of clients and the number of deals per client as arguments, which default to 10,000 and 100.
+ * Every client runs on a platform thread of its own, so 10,000 clients may require raising the limit of threads and open
+ * files of the user.
+ */
+public final class DealServerLoadTest {
+    private DealServerLoadTest() {
+    }
+
+    public static void main(final String[] args) throws InterruptedException {
+        final var clientCount = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        final var dealsPerClient = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        final var lines = GeneratedDeals.lines(1024, 2, 54);
+        final var serverExecutor = Executors.newCachedThreadPool();
+        final var clientExecutor = Executors.newCachedThreadPool();
+        final var latencies = new LatencyHistogram();
+        final var ready = new CountDownLatch(clientCount);
+        final var start = new CountDownLatch(1);
+        final var done = new CountDownLatch(clientCount);
+        final var failedClients = new AtomicInteger();
+
+        try (var server = new DealServer(0, new CardMasksFromStringFactory(2), HandStrengths::ofFiveCards, serverExecutor, 64, 4096)) {
+            for (int client = 0; client < clientCount; client++) {
+                final var firstLine = client;
+                clientExecutor.execute(() -> {
+                    try (var socket = connect(server.port(), ready);
+                         var reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII))) {
+                        final var output = socket.getOutputStream();
+                        start.await();
+                        for (int deal = 0; deal < dealsPerClient; deal++) {
+                            final var request = (lines.get((firstLine + deal) % lines.size()) + '\n').getBytes(StandardCharsets.US_ASCII);
+                            final var sentNanos = System.nanoTime();
+                            output.write(request);
+                            output.flush();
+                            if (reader.readLine() == null) {
+                                throw new IOException("Connection closed by the server");
+                            }
+                            latencies.record(System.nanoTime() - sentNanos);
+                        }
+                    } catch (IOException e) {
+                        // Counted rather than rethrown, as the executor would lose the exception and the figures printed
+                        // would quietly cover fewer clients than asked for
+                        failedClients.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+
+            ready.await();
+            final var startNanos = System.nanoTime();
+            start.countDown();
+            done.await();
+            final var elapsedNanos = System.nanoTime() - startNanos;
+
+            System.out.printf("clients: %d, failed clients: %d, deals: %d%n", clientCount, failedClients.get(), latencies.count());
+            System.out.printf("p50: %.1f us, p99: %.1f us, max: %.1f us%n",
+                    latencies.valueAtPercentile(50) / 1e3, latencies.valueAtPercentile(99) / 1e3, latencies.max() / 1e3);
+            System.out.printf("throughput: %.0f deals/s%n", latencies.count() * 1e9 / elapsedNanos);
+        } finally {
+            clientExecutor.shutdownNow();
+            serverExecutor.shutdownNow();
+            serverExecutor.awaitTermination(1, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Connects to the server, counting down the given latch whether connecting succeeds or not, so a client failing to
+     * connect, e.g. for lack of file descriptors, cannot keep the others waiting for it forever.
+     */
+    private static Socket connect(final int port, final CountDownLatch ready) throws IOException {
+        try {
+            return new Socket(InetAddress.getLoopbackAddress(), port);
+        } finally {
+            ready.countDown();
+        }
+    }
+}
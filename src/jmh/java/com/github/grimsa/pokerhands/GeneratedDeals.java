@@ -0,0 +1,43 @@
+package com.github.grimsa.pokerhands;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates random deal file lines in the Project Euler format, e.g. {@code 8C TS KC 9H 4S 7D 2S 5D 3S AC}.
+ */
+public final class GeneratedDeals {
+    private static final String VALUES = "23456789TJQKA";
+    private static final String SUITS = "CDHS";
+
+    private GeneratedDeals() {
+    }
+
+    public static List<String> lines(final int dealCount, final int playerCount, final long seed) {
+        final var random = new Random(seed);
+        final var deck = new int[VALUES.length() * SUITS.length()];
+        for (int card = 0; card < deck.length; card++) {
+            deck[card] = card;
+        }
+
+        final var lines = new ArrayList<String>(dealCount);
+        final var line = new StringBuilder();
+        for (int deal = 0; deal < dealCount; deal++) {
+            line.setLength(0);
+            for (int dealt = 0; dealt < playerCount * 5; dealt++) {
+                final var pick = dealt + random.nextInt(deck.length - dealt);
+                final var card = deck[pick];
+                deck[pick] = deck[dealt];
+                deck[dealt] = card;
+
+                if (dealt > 0) {
+                    line.append(' ');
+                }
+                line.append(VALUES.charAt(card % VALUES.length())).append(SUITS.charAt(card / VALUES.length()));
+            }
+            lines.add(line.toString());
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,35 @@
+package com.github.grimsa.pokerhands;
+
+import com.github.grimsa.pokerhands.hand.CardMask;
+import com.github.grimsa.pokerhands.hand.PackedHandFromFiveCardsFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.function.LongFunction;
+
+/**
+ * Evaluates a hand through an evaluator decorated by enabled and disabled {@link PipelineMetrics}, to measure the cost
+ * of instrumentation.
+ */
+@State(Scope.Benchmark)
+public class InstrumentationBenchmark {
+    @Param({"true", "false"})
+    public boolean metricsEnabled;
+
+    private final long cardMask = CardMask.parse("8C TS KC 9H 4S");
+    private LongFunction<Hand> evaluator;
+
+    @Setup
+    public void decorateEvaluator() {
+        final var metrics = metricsEnabled ? new PipelineMetrics() : PipelineMetrics.disabled();
+        evaluator = metrics.timedEvaluation(new PackedHandFromFiveCardsFactory());
+    }
+
+    @Benchmark
+    public Hand evaluateHand() {
+        return evaluator.apply(cardMask);
+    }
+}
@@ -0,0 +1,64 @@
+package com.github.grimsa.pokerhands;
+
+import com.github.grimsa.pokerhands.hand.HandFromFiveCardsFactory;
+import com.github.grimsa.pokerhands.hand.HandFromStringFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+/**
+ * Shows how counting wins scales with the number of threads and the chunk size.
+ * <p>
+ * A deal caches its result once resolved, so the deals are created anew from the evaluated hands before every invocation
+ * to have the hands compared by the measured code.
+ */
+@State(Scope.Benchmark)
+public class ParallelDealHistoryBenchmark {
+    private static final int DEAL_COUNT = 1_000_000;
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    public int threadCount;
+
+    @Param({"1024", "16384"})
+    public int chunkSize;
+
+    private List<List<Hand>> handsOfDeals;
+    private DealHistory dealHistory;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void evaluateHands() {
+        final var handFactory = new HandFromStringFactory(new HandFromFiveCardsFactory());
+        handsOfDeals = GeneratedDeals.lines(DEAL_COUNT, 2, 54).stream()
+                .map(line -> List.of(handFactory.apply(line.substring(0, 14)), handFactory.apply(line.substring(15))))
+                .collect(Collectors.toList());
+        pool = new ForkJoinPool(threadCount);
+    }
+
+    @Setup(Level.Invocation)
+    public void createDealHistory() {
+        dealHistory = new DealHistory(() -> handsOfDeals.stream()
+                .map(Deal::new)
+                .collect(Collectors.toList()));
+    }
+
+    @TearDown(Level.Trial)
+    public void shutDownPool() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DEAL_COUNT)
+    public int[] countWinsOfAllPlayers() {
+        return dealHistory.countWinsOfAllPlayers(pool, chunkSize);
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.grimsa.pokerhands.deal;
+
+import com.github.grimsa.pokerhands.GeneratedDeals;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Reads a million two player deals from a text file and from the same deals converted to the binary format.
+ */
+@State(Scope.Benchmark)
+public class DealFileReadingBenchmark {
+    private static final int DEAL_COUNT = 1_000_000;
+
+    private Path textFile;
+    private Path binaryFile;
+
+    @Setup
+    public void writeFiles() throws IOException {
+        final var lines = GeneratedDeals.lines(DEAL_COUNT, 2, 54);
+        textFile = Files.write(Files.createTempFile("deals", ".txt"), lines);
+        binaryFile = Files.createTempFile("deals", ".bin");
+        BinaryDealFile.convert(lines::stream, 2, binaryFile);
+    }
+
+    @TearDown
+    public void deleteFiles() throws IOException {
+        Files.delete(textFile);
+        Files.delete(binaryFile);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DEAL_COUNT)
+    public void readTextFile(final Blackhole blackhole) {
+        try (var deals = new MappedDealFileReader(textFile).get()) {
+            deals.forEach(blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DEAL_COUNT)
+    public void readBinaryFile(final Blackhole blackhole) {
+        try (var deals = new BinaryDealFile(binaryFile).get()) {
+            deals.forEach(blackhole::consume);
+        }
+    }
+}
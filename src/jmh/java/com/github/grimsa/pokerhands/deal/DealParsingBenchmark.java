@@ -0,0 +1,56 @@
+package com.github.grimsa.pokerhands.deal;
+
+import com.github.grimsa.pokerhands.GeneratedDeals;
+import com.github.grimsa.pokerhands.hand.HandFromStringFactory;
+import com.github.grimsa.pokerhands.hand.PackedHandFromFiveCardsFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+
+/**
+ * Parses deals of various player counts and, as a baseline, two player deals with {@link TwoPlayerDealFromStringFactory}.
+ * Divide the score by the player count to compare the cost per hand.
+ */
+@State(Scope.Benchmark)
+public class DealParsingBenchmark {
+    private static final int DEAL_COUNT = 1024;
+
+    @Param({"2", "6", "9"})
+    public int playerCount;
+
+    private List<String> lines;
+    private List<String> twoPlayerLines;
+    private DealFromStringFactory dealFactory;
+    private TwoPlayerDealFromStringFactory twoPlayerDealFactory;
+
+    @Setup
+    public void generateLines() {
+        lines = GeneratedDeals.lines(DEAL_COUNT, playerCount, 54);
+        twoPlayerLines = GeneratedDeals.lines(DEAL_COUNT, 2, 54);
+        final var handFactory = new PackedHandFromFiveCardsFactory();
+        dealFactory = new DealFromStringFactory(playerCount, handFactory);
+        twoPlayerDealFactory = new TwoPlayerDealFromStringFactory(HandFromStringFactory.fromCardMasks(handFactory));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DEAL_COUNT)
+    public void parseDeals(final Blackhole blackhole) {
+        for (final String line : lines) {
+            blackhole.consume(dealFactory.apply(line));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DEAL_COUNT)
+    public void parseTwoPlayerDeals(final Blackhole blackhole) {
+        for (final String line : twoPlayerLines) {
+            blackhole.consume(twoPlayerDealFactory.apply(line));
+        }
+    }
+}
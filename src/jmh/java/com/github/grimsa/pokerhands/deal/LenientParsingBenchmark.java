@@ -0,0 +1,61 @@
+package com.github.grimsa.pokerhands.deal;
+
+import com.github.grimsa.pokerhands.Deal;
+import com.github.grimsa.pokerhands.GeneratedDeals;
+import com.github.grimsa.pokerhands.hand.PackedHandFromFiveCardsFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses deals of which every n-th line is corrupted, quarantining them with {@link LenientDealsFactory} and, as a
+ * baseline, skipping them by catching the exception thrown by {@link DealFromStringFactory}.
+ */
+@State(Scope.Benchmark)
+public class LenientParsingBenchmark {
+    private static final int DEAL_COUNT = 1024;
+
+    @Param({"1024", "10", "2"})
+    public int corruptedLineInterval;
+
+    private List<String> lines;
+    private LenientDealsFactory lenientDealsFactory;
+    private DealFromStringFactory dealFactory;
+
+    @Setup
+    public void generateLines() {
+        lines = new ArrayList<>(GeneratedDeals.lines(DEAL_COUNT, 2, 54));
+        for (int index = corruptedLineInterval - 1; index < DEAL_COUNT; index += corruptedLineInterval) {
+            lines.set(index, "X" + lines.get(index).substring(1));
+        }
+        final var handFactory = new PackedHandFromFiveCardsFactory();
+        lenientDealsFactory = new LenientDealsFactory(lines::stream, 2, handFactory, new Quarantine(0), summary -> { });
+        dealFactory = new DealFromStringFactory(2, handFactory);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DEAL_COUNT)
+    public List<Deal> quarantineCorruptedLines() {
+        return lenientDealsFactory.get();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DEAL_COUNT)
+    public List<Deal> catchExceptionsOfCorruptedLines() {
+        final var deals = new ArrayList<Deal>();
+        for (final String line : lines) {
+            try {
+                deals.add(dealFactory.apply(line));
+            } catch (IllegalArgumentException e) {
+                // skipped
+            }
+        }
+        return deals;
+    }
+}
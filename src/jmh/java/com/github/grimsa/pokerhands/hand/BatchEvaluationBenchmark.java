@@ -0,0 +1,49 @@
+package com.github.grimsa.pokerhands.hand;
+
+import com.github.grimsa.pokerhands.Hand;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.function.LongFunction;
+
+/**
+ * Evaluates five card hands one at a time into {@link Hand}s, and in a batch into an array of strengths.
+ */
+@State(Scope.Benchmark)
+public class BatchEvaluationBenchmark {
+    private static final int HAND_COUNT = 4096;
+
+    private final long[] cardMasks = new long[HAND_COUNT];
+    private final int[] strengths = new int[HAND_COUNT];
+    private final LongFunction<Hand> handFactory = new TableHandFromFiveCardsFactory();
+
+    @Setup
+    public void dealHands() {
+        final var random = new Random(54);
+        for (int hand = 0; hand < HAND_COUNT; hand++) {
+            while (CardMask.size(cardMasks[hand]) < 5) {
+                cardMasks[hand] |= 1L << random.nextInt(Card.COUNT);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(HAND_COUNT)
+    public void evaluateOneAtATime(final Blackhole blackhole) {
+        for (final long cardMask : cardMasks) {
+            blackhole.consume(handFactory.apply(cardMask));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(HAND_COUNT)
+    public int[] evaluateInBatch() {
+        HandStrengths.ofFiveCards(cardMasks, strengths);
+        return strengths;
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.grimsa.pokerhands.hand;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+/**
+ * Evaluates hands drawn from a pool of distinct hands, directly and through a cache keyed by the exact cards or by their
+ * canonical form, to tell how many repeated hands it takes for caching to pay off.
+ */
+@State(Scope.Benchmark)
+public class CachedHandEvaluationBenchmark {
+    private static final int HAND_COUNT = 4096;
+
+    @Param({"256", "65536"})
+    public int distinctHandCount;
+
+    @Param({"4096", "65536"})
+    public int cacheCapacity;
+
+    private final long[] cardMasks = new long[HAND_COUNT];
+    private CachingStrengthFunction cachedTable;
+    private CachingStrengthFunction canonicallyCachedTable;
+
+    @Setup
+    public void dealHands() {
+        final var random = new Random(54);
+        final var distinctHands = new long[distinctHandCount];
+        for (int hand = 0; hand < distinctHandCount; hand++) {
+            while (CardMask.size(distinctHands[hand]) < 5) {
+                distinctHands[hand] |= 1L << random.nextInt(Card.COUNT);
+            }
+        }
+        for (int hand = 0; hand < HAND_COUNT; hand++) {
+            cardMasks[hand] = distinctHands[random.nextInt(distinctHandCount)];
+        }
+        cachedTable = new CachingStrengthFunction(TableHandFromFiveCardsFactory::strength, cacheCapacity);
+        canonicallyCachedTable = CachingStrengthFunction.keyedBySuitIsomorphism(TableHandFromFiveCardsFactory::strength, cacheCapacity);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(HAND_COUNT)
+    public int evaluateByTable() {
+        var strengthSum = 0;
+        for (final long cardMask : cardMasks) {
+            strengthSum += TableHandFromFiveCardsFactory.strength(cardMask);
+        }
+        return strengthSum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(HAND_COUNT)
+    public int evaluateByCachedTable() {
+        var strengthSum = 0;
+        for (final long cardMask : cardMasks) {
+            strengthSum += cachedTable.applyAsInt(cardMask);
+        }
+        return strengthSum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(HAND_COUNT)
+    public int evaluateByCanonicallyCachedTable() {
+        var strengthSum = 0;
+        for (final long cardMask : cardMasks) {
+            strengthSum += canonicallyCachedTable.applyAsInt(cardMask);
+        }
+        return strengthSum;
+    }
+}
@@ -0,0 +1,45 @@
+package com.github.grimsa.pokerhands.hand;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Works out the equity of three players on the flop exhaustively, and preflop by sampling.
+ */
+@State(Scope.Benchmark)
+public class EquityBenchmark {
+    @Param({"1", "4"})
+    public int parallelism;
+
+    private final long[] holeCards = {CardMask.parse("AS AH"), CardMask.parse("KD QD"), CardMask.parse("7C 8C")};
+    private final long flop = CardMask.parse("2D 9C TD");
+    private ForkJoinPool pool;
+    private EquityFactory equityFactory;
+
+    @Setup
+    public void createPool() {
+        pool = new ForkJoinPool(parallelism);
+        equityFactory = new EquityFactory(pool);
+    }
+
+    @TearDown
+    public void shutDownPool() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public double exhaustiveOnFlop() {
+        return equityFactory.exhaustive(holeCards, flop).equityOf(0);
+    }
+
+    @Benchmark
+    public double monteCarloPreflop() {
+        return equityFactory.monteCarlo(holeCards, 0, 100_000, 54).equityOf(0);
+    }
+}
@@ -0,0 +1,49 @@
+package com.github.grimsa.pokerhands.hand;
+
+import com.github.grimsa.pokerhands.Hand;
+import com.github.grimsa.pokerhands.Rank;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+
+import static com.github.grimsa.pokerhands.Rank.*;
+
+/**
+ * Compares two hands of the same rank which differ only in the last tie-breaking card, the most expensive comparison.
+ */
+@State(Scope.Benchmark)
+public class HandComparisonBenchmark {
+    private static final Map<Rank, String[]> HANDS_BY_RANK = Map.of(
+            HIGH_CARD, new String[]{"AC KD 9H 7S 3C", "AD KC 9S 7H 2C"},
+            ONE_PAIR, new String[]{"6C 6D QC JC 9D", "6H 6S QD JD 8C"},
+            TWO_PAIRS, new String[]{"JC JD 6C 6D 5C", "JH JS 6H 6S 4D"},
+            THREE_OF_A_KIND, new String[]{"5C 5D 5H KC 9D", "5C 5D 5S KD 8C"},
+            STRAIGHT, new String[]{"4C 5C 6S 7C 8C", "4D 5D 6C 7D 8D"},
+            FLUSH, new String[]{"KC QC 8C 7C 4C", "KD QD 8D 7D 3D"},
+            FULL_HOUSE, new String[]{"2C 2D 2H 8C 8D", "2C 2D 2S 7S 7D"},
+            FOUR_OF_A_KIND, new String[]{"2C 2D 2H 2S 8D", "2C 2D 2H 2S 7S"},
+            STRAIGHT_FLUSH, new String[]{"4C 5C 6C 7C 8C", "3D 4D 5D 6D 7D"}
+    );
+
+    @Param
+    public Rank rank;
+
+    private Hand first;
+    private Hand second;
+
+    @Setup
+    public void createHands() {
+        final var handFromStringFactory = new HandFromStringFactory(new HandFromFiveCardsFactory());
+        first = handFromStringFactory.apply(HANDS_BY_RANK.get(rank)[0]);
+        second = handFromStringFactory.apply(HANDS_BY_RANK.get(rank)[1]);
+    }
+
+    @Benchmark
+    public int compareTo() {
+        return first.compareTo(second);
+    }
+}
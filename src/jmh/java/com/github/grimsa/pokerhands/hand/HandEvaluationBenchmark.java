@@ -0,0 +1,59 @@
+package com.github.grimsa.pokerhands.hand;
+
+import com.github.grimsa.pokerhands.Hand;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+@State(Scope.Benchmark)
+public class HandEvaluationBenchmark {
+    private static final Map<String, Function<Set<Card>, Hand>> FACTORIES = Map.of(
+            "branching", new HandFromFiveCardsFactory(),
+            "packed", new PackedHandFromFiveCardsFactory(),
+            "table", new TableHandFromFiveCardsFactory()
+    );
+    private static final Map<String, LongFunction<Hand>> CARD_MASK_FACTORIES = Map.of(
+            "branching", new HandFromFiveCardsFactory(),
+            "packed", new PackedHandFromFiveCardsFactory(),
+            "table", new TableHandFromFiveCardsFactory()
+    );
+
+    @Param({"branching", "packed", "table"})
+    public String factoryName;
+
+    @Param({"8C TS KC 9H 4S", "2C 2D 2H 8C 8D"})
+    public String handAsString;
+
+    private Function<Set<Card>, Hand> factory;
+    private LongFunction<Hand> cardMaskFactory;
+    private Set<Card> cards;
+    private long cardMask;
+
+    @Setup
+    public void parseCards() {
+        factory = FACTORIES.get(factoryName);
+        cardMaskFactory = CARD_MASK_FACTORIES.get(factoryName);
+        cardMask = CardMask.parse(handAsString);
+        new HandFromStringFactory(parsedCards -> {
+            cards = parsedCards;
+            return null;
+        }).apply(handAsString);
+    }
+
+    @Benchmark
+    public Hand evaluateHand() {
+        return factory.apply(cards);
+    }
+
+    @Benchmark
+    public Hand evaluateCardMask() {
+        return cardMaskFactory.apply(cardMask);
+    }
+}
@@ -0,0 +1,30 @@
+package com.github.grimsa.pokerhands.hand;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+public class HandParsingBenchmark {
+    private final String handAsString = "8C TS KC 9H 4S";
+    private final char valueSymbol = 'T';
+
+    /**
+     * Parses a hand into the {@code Set<Card>} that {@link HandFromStringFactory} hands on to a card set based factory.
+     */
+    @Benchmark
+    public void parseHand(final Blackhole blackhole) {
+        blackhole.consume(CardMask.toCards(CardMask.parse(handAsString)));
+    }
+
+    @Benchmark
+    public void parseCardMask(final Blackhole blackhole) {
+        blackhole.consume(CardMask.parse(handAsString));
+    }
+
+    @Benchmark
+    public Object valueFromSymbol() {
+        return Card.Value.fromSymbol(valueSymbol);
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.grimsa.pokerhands.hand;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+/**
+ * Evaluates seven card hands directly and, for comparison, as the best of their 21 five card combinations.
+ */
+@State(Scope.Benchmark)
+public class SevenCardEvaluationBenchmark {
+    private static final int HAND_COUNT = 1024;
+
+    private final long[] cardMasks = new long[HAND_COUNT];
+
+    @Setup
+    public void dealHands() {
+        final var random = new Random(54);
+        for (int hand = 0; hand < HAND_COUNT; hand++) {
+            while (CardMask.size(cardMasks[hand]) < 7) {
+                cardMasks[hand] |= 1L << random.nextInt(Card.COUNT);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(HAND_COUNT)
+    public int evaluateSevenCards() {
+        var strengthSum = 0;
+        for (final long cardMask : cardMasks) {
+            strengthSum += HandFromSevenCardsFactory.strength(cardMask);
+        }
+        return strengthSum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(HAND_COUNT)
+    public int evaluateBestOfFiveCardCombinations() {
+        var strengthSum = 0;
+        for (final long cardMask : cardMasks) {
+            var bestStrength = 0;
+            for (long first = Long.lowestOneBit(cardMask); first != 0; first = Long.lowestOneBit(cardMask & -(first << 1))) {
+                for (long second = Long.lowestOneBit(cardMask & -(first << 1)); second != 0; second = Long.lowestOneBit(cardMask & -(second << 1))) {
+                    bestStrength = Math.max(bestStrength, PackedHandFromFiveCardsFactory.strength(cardMask & ~first & ~second));
+                }
+            }
+            strengthSum += bestStrength;
+        }
+        return strengthSum;
+    }
+}
@@ -4,11 +4,13 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public final class ClasspathFile implements Supplier<List<String>> {
     private final String path;
@@ -19,13 +21,21 @@ public final class ClasspathFile implements Supplier<List<String>> {
 
     @Override
     public List<String> get() {
-        try (final BufferedReader reader = createBufferedReader(getResourceAsStream())) {
-            return reader.lines().collect(Collectors.toList());
-        } catch (IOException e) {
-            throw new IllegalStateException("Failed to read file " + path, e);
+        try (final Stream<String> lines = lines()) {
+            return lines.collect(Collectors.toList());
+        } catch (UncheckedIOException e) {
+            throw new IllegalStateException("Failed to read file " + path, e.getCause());
         }
     }
 
+    /**
+     * Lazily reads lines of the file. The returned stream must be closed to release the file.
+     */
+    public Stream<String> lines() {
+        final var reader = createBufferedReader(getResourceAsStream());
+        return reader.lines().onClose(() -> close(reader));
+    }
+
     private InputStream getResourceAsStream() {
         return getClass().getClassLoader().getResourceAsStream(path);
     }
@@ -33,4 +43,12 @@ public final class ClasspathFile implements Supplier<List<String>> {
     private BufferedReader createBufferedReader(final InputStream resource) {
         return new BufferedReader(new InputStreamReader(resource, StandardCharsets.UTF_8));
     }
+
+    private void close(final BufferedReader reader) {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close file " + path, e);
+        }
+    }
 }
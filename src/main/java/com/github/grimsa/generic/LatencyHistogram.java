@@ -0,0 +1,79 @@
+package com.github.grimsa.generic;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * A histogram of non-negative values, such as latencies in nanoseconds, in the style of HdrHistogram.
+ * <p>
+ * Values below 64 are counted exactly, and larger values in buckets covering 1/32 of their power of two, so that any
+ * value is reported with a relative error below 3.2% while the whole {@code long} range takes 1888 counters. Recording
+ * a value takes an atomic increment of its bucket and an update of the maximum, safe for concurrent use and free of
+ * allocation.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public void record(final long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Value must not be negative, got: " + value);
+        }
+        counts.incrementAndGet(indexOf(value));
+        max.accumulate(value);
+    }
+
+    public long count() {
+        var count = 0L;
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            count += counts.get(index);
+        }
+        return count;
+    }
+
+    public long max() {
+        return max.get();
+    }
+
+    /**
+     * The highest value of the bucket holding the value at the given percentile, between 0 and 100, or 0 if nothing has
+     * been recorded.
+     */
+    public long valueAtPercentile(final double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100, got: " + percentile);
+        }
+
+        final var count = count();
+        final var rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        var seen = 0L;
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            seen += counts.get(index);
+            if (seen >= rank) {
+                return Math.min(highestValueOf(index), max());
+            }
+        }
+        return 0;
+    }
+
+    private static int indexOf(final long value) {
+        if (value < 2 * SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        final var shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKET_COUNT + (int) (value >>> shift) - SUB_BUCKET_COUNT;
+    }
+
+    private static long highestValueOf(final int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+        final var shift = index / SUB_BUCKET_COUNT - 1;
+        final var subBucket = index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((subBucket + 1L) << shift) - 1;
+    }
+}
@@ -0,0 +1,9 @@
+package com.github.grimsa.generic;
+
+/**
+ * Receives named metric values, e.g. to forward them to a monitoring system.
+ */
+@FunctionalInterface
+public interface MetricsSink {
+    void accept(String name, long value);
+}
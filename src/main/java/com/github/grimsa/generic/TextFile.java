@@ -0,0 +1,30 @@
+package com.github.grimsa.generic;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Lazily reads lines of a file in the filesystem. Every call to {@link #get()} opens the file anew, and the returned
+ * stream must be closed to release it.
+ */
+public final class TextFile implements Supplier<Stream<String>> {
+    private final Path path;
+
+    public TextFile(final Path path) {
+        this.path = Objects.requireNonNull(path);
+    }
+
+    @Override
+    public Stream<String> get() {
+        try {
+            return Files.lines(path, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read file " + path, e);
+        }
+    }
+}
@@ -1,27 +1,91 @@
 package com.github.grimsa.pokerhands;
 
-import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 
 public final class Deal {
+    static final int MAX_PLAYER_COUNT = 24;
+    private static final int RANK_SHIFT = MAX_PLAYER_COUNT;
+    private static final int WINNERS_MASK = (1 << MAX_PLAYER_COUNT) - 1;
+    private static final Rank[] RANKS = Rank.values();
+
     private final List<Hand> playerHands;
 
+    /**
+     * The winners bitmask in the low bits and the winning rank above them, resolved on first use.
+     * Zero until then, as every deal has at least one winner.
+     */
+    private int result;
+
     public Deal(final List<Hand> playerHands) {
         this.playerHands = Objects.requireNonNull(playerHands);
+        if (playerHands.isEmpty() || playerHands.size() > MAX_PLAYER_COUNT) {
+            throw new IllegalArgumentException("A deal must comprise between 1 and " + MAX_PLAYER_COUNT + " hands, got: " + playerHands.size());
+        }
     }
 
+    int playerCount() {
+        return playerHands.size();
+    }
+
+    /**
+     * Tells whether the player holds the single strongest hand. A split pot is not won by any of the players sharing it.
+     */
     boolean isWonBy(final int playerIndex) {
-        if (playerIndex < 0 || playerIndex >= playerHands.size()) {
-            throw new IndexOutOfBoundsException(playerIndex);
+        return winners() == 1 << checkPlayerIndex(playerIndex);
+    }
+
+    /**
+     * Tells whether the player shares the pot, holding one of several strongest hands of equal strength.
+     */
+    boolean isTiedBy(final int playerIndex) {
+        return isSplit() && (winners() & 1 << checkPlayerIndex(playerIndex)) != 0;
+    }
+
+    boolean isSplit() {
+        return Integer.bitCount(winners()) > 1;
+    }
+
+    /**
+     * A bitmask having a bit set for the index of every player holding the strongest hand.
+     */
+    int winners() {
+        return result() & WINNERS_MASK;
+    }
+
+    Rank winningRank() {
+        return RANKS[result() >>> RANK_SHIFT];
+    }
+
+    private int result() {
+        var result = this.result;
+        if (result == 0) {
+            result = resolveResult();
+            this.result = result;
         }
+        return result;
+    }
 
-        return playerHands.indexOf(getBestHand()) == playerIndex;
+    private int resolveResult() {
+        var bestHand = playerHands.get(0);
+        var winners = 1;
+        for (int playerIndex = 1; playerIndex < playerHands.size(); playerIndex++) {
+            final var hand = playerHands.get(playerIndex);
+            final var comparison = hand.compareTo(bestHand);
+            if (comparison > 0) {
+                bestHand = hand;
+                winners = 1 << playerIndex;
+            } else if (comparison == 0) {
+                winners |= 1 << playerIndex;
+            }
+        }
+        return bestHand.getRank().ordinal() << RANK_SHIFT | winners;
     }
 
-    private Hand getBestHand() {
-        return playerHands.stream()
-                .max(Comparator.naturalOrder())
-                .orElseThrow();
+    private int checkPlayerIndex(final int playerIndex) {
+        if (playerIndex < 0 || playerIndex >= playerHands.size()) {
+            throw new IndexOutOfBoundsException(playerIndex);
+        }
+        return playerIndex;
     }
 }
@@ -1,7 +1,10 @@
 package com.github.grimsa.pokerhands;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.function.Supplier;
 
 final class DealHistory {
@@ -21,4 +24,82 @@ final class DealHistory {
                 .count();
         return Math.toIntExact(winCount);
     }
+
+    /**
+     * Tallies the outcomes of all deals for every player in a single pass, evaluating each hand just once.
+     */
+    DealTally tally() {
+        final var tally = new DealTally();
+        deals.forEach(tally::add);
+        return tally;
+    }
+
+    /**
+     * Counts wins of the given player by splitting the deals into chunks that are evaluated in parallel in the given pool.
+     * The pool determines the number of threads.
+     */
+    int countWinsOfPlayer(final int playerIndex, final ForkJoinPool pool, final int chunkSize) {
+        final var winCounts = countWinsOfAllPlayers(pool, chunkSize);
+        if (playerIndex < 0 || playerIndex >= winCounts.length) {
+            throw new IndexOutOfBoundsException(playerIndex);
+        }
+        return winCounts[playerIndex];
+    }
+
+    /**
+     * Counts wins of every player in a single parallel pass. Every chunk keeps its own counters, which are summed up as
+     * the chunks are joined, so threads never contend for them.
+     */
+    int[] countWinsOfAllPlayers(final ForkJoinPool pool, final int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive, got: " + chunkSize);
+        }
+        return pool.invoke(new WinCountTask(deals, chunkSize));
+    }
+
+    private static final class WinCountTask extends RecursiveTask<int[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Deal> deals;
+        private final int chunkSize;
+
+        WinCountTask(final List<Deal> deals, final int chunkSize) {
+            this.deals = deals;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (deals.size() <= chunkSize) {
+                return countWins();
+            }
+
+            final var middle = deals.size() / 2;
+            final var secondHalf = new WinCountTask(deals.subList(middle, deals.size()), chunkSize);
+            secondHalf.fork();
+            final var firstHalfWinCounts = new WinCountTask(deals.subList(0, middle), chunkSize).compute();
+            return sum(firstHalfWinCounts, secondHalf.join());
+        }
+
+        private int[] countWins() {
+            var winCounts = new int[2];
+            for (final Deal deal : deals) {
+                if (deal.playerCount() > winCounts.length) {
+                    winCounts = Arrays.copyOf(winCounts, deal.playerCount());
+                }
+                if (!deal.isSplit()) {
+                    winCounts[Integer.numberOfTrailingZeros(deal.winners())]++;
+                }
+            }
+            return winCounts;
+        }
+
+        private static int[] sum(final int[] first, final int[] second) {
+            final var sum = Arrays.copyOf(first, Math.max(first.length, second.length));
+            for (int playerIndex = 0; playerIndex < second.length; playerIndex++) {
+                sum[playerIndex] += second[playerIndex];
+            }
+            return sum;
+        }
+    }
 }
@@ -0,0 +1,99 @@
+package com.github.grimsa.pokerhands;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Processes deal file lines as a {@link Flow} of stages, from lines to the cards of every player, to evaluated deals, to
+ * snapshots of a running {@link DealTally}, so that results can be watched while a large file is still being read.
+ * <p>
+ * Parsing and evaluation each run with a parallelism of their own, and deals are tallied in the order they are
+ * evaluated. Every stage publishes through a buffer of the given size and blocks while it is full, so a slow stage
+ * slows down the stages upstream of it, down to reading the lines. As stages block while waiting for each other, the
+ * executor must be able to run more tasks than the parallelism of all stages, e.g. a cached thread pool or
+ * {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+ */
+public final class DealPipeline {
+    private final Function<String, long[]> cardMasksFactory;
+    private final LongFunction<Hand> handFromCardMaskFactory;
+    private final Executor executor;
+    private final int bufferSize;
+    private final int parsingParallelism;
+    private final int evaluationParallelism;
+    private final long snapshotInterval;
+
+    /**
+     * @param cardMasksFactory parses the cards of every player from a line, e.g. {@code CardMasksFromStringFactory}
+     * @param handFromCardMaskFactory evaluates the cards of a player
+     */
+    public DealPipeline(final Function<String, long[]> cardMasksFactory, final LongFunction<Hand> handFromCardMaskFactory,
+                        final Executor executor, final int bufferSize, final int parsingParallelism,
+                        final int evaluationParallelism, final long snapshotInterval) {
+        this.cardMasksFactory = Objects.requireNonNull(cardMasksFactory);
+        this.handFromCardMaskFactory = Objects.requireNonNull(handFromCardMaskFactory);
+        this.executor = Objects.requireNonNull(executor);
+        this.bufferSize = bufferSize;
+        this.parsingParallelism = parsingParallelism;
+        this.evaluationParallelism = evaluationParallelism;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    /**
+     * Publishes snapshots of the tally of the deals published by the given publisher of lines, e.g. {@link #linesOf}.
+     * <p>
+     * Nothing is read before a subscriber subscribes, and every subscriber gets a pipeline of its own, so no snapshot is
+     * lost to a late subscriber and a slow one slows down reading the lines.
+     */
+    public Flow.Publisher<DealTally> process(final Flow.Publisher<String> lines) {
+        Objects.requireNonNull(lines);
+        return subscriber -> {
+            final var parsing = new ParallelMappingProcessor<>(cardMasksFactory, executor, bufferSize, parsingParallelism);
+            final var evaluation = new ParallelMappingProcessor<long[], Deal>(this::evaluate, executor, bufferSize, evaluationParallelism);
+            final var tallying = new TallyProcessor(executor, bufferSize, snapshotInterval);
+            tallying.subscribe(subscriber);
+            evaluation.subscribe(tallying);
+            parsing.subscribe(evaluation);
+            lines.subscribe(parsing);
+        };
+    }
+
+    /**
+     * Publishes the lines of a fresh stream from the given supplier to every subscriber, reading them as fast as the
+     * subscriber takes them.
+     */
+    public Flow.Publisher<String> linesOf(final Supplier<Stream<String>> dealFileLinesSupplier) {
+        Objects.requireNonNull(dealFileLinesSupplier);
+        return subscriber -> {
+            final var publisher = new SubmissionPublisher<String>(executor, bufferSize);
+            publisher.subscribe(subscriber);
+            executor.execute(() -> {
+                try (Stream<String> lines = dealFileLinesSupplier.get()) {
+                    final var iterator = lines.iterator();
+                    while (iterator.hasNext() && publisher.hasSubscribers()) {
+                        publisher.submit(iterator.next());
+                    }
+                    publisher.close();
+                } catch (RuntimeException e) {
+                    publisher.closeExceptionally(e);
+                }
+            });
+        };
+    }
+
+    private Deal evaluate(final long[] cardMasks) {
+        final var hands = new Hand[cardMasks.length];
+        for (int playerIndex = 0; playerIndex < cardMasks.length; playerIndex++) {
+            hands[playerIndex] = handFromCardMaskFactory.apply(cardMasks[playerIndex]);
+        }
+        final var deal = new Deal(Arrays.asList(hands));
+        deal.winners();
+        return deal;
+    }
+}
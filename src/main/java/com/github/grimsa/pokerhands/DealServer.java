@@ -0,0 +1,268 @@
+package com.github.grimsa.pokerhands;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * A TCP server on the loopback interface that evaluates deals sent as lines in the deal file format, answering every line
+ * with a line holding the winning player, numbered from 1, {@code TIE} followed by the players sharing the pot, or
+ * {@code ERROR} followed by the reason the line was rejected.
+ * <p>
+ * Every connection is served by a task of its own in the given executor, which also runs the accept loop. On Java 21 or
+ * later, {@code Executors.newVirtualThreadPerTaskExecutor()} serves every connection with a virtual thread; on Java 11 a
+ * cached thread pool serves them with platform threads. Lines already received on a connection form a batch: they are
+ * parsed into card masks, the hands of all of them are evaluated by a single call of the batch evaluator, e.g.
+ * {@code HandStrengths::ofFiveCards}, and they are answered with a single flush. A batch may only be evaluated while the
+ * number of deals in flight across all connections stays within a limit, so a saturated server stops reading from its
+ * connections and TCP flow control pushes back on the clients.
+ * <p>
+ * Closing the server closes all its connections, but leaves the executor to its owner.
+ */
+public final class DealServer implements AutoCloseable {
+    private static final long MAX_ACCEPT_BACKOFF_MILLIS = 1000;
+
+    private final Function<String, long[]> cardMasksFactory;
+    private final BiConsumer<long[], int[]> handStrengthsEvaluator;
+    private final int maxBatchSize;
+    private final Semaphore dealsInFlight;
+    private final ServerSocket serverSocket;
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Starts serving on the given port of the loopback interface, or on any free port if the port is 0.
+     *
+     * @param cardMasksFactory       parses the cards of every player from a line, e.g. {@code CardMasksFromStringFactory},
+     *                               rejecting a malformed line with an {@link IllegalArgumentException}
+     * @param handStrengthsEvaluator evaluates the card masks of its first argument into strengths in its second one
+     */
+    public DealServer(final int port, final Function<String, long[]> cardMasksFactory, final BiConsumer<long[], int[]> handStrengthsEvaluator,
+                      final ExecutorService executor, final int maxBatchSize, final int maxDealsInFlight) {
+        this.cardMasksFactory = Objects.requireNonNull(cardMasksFactory);
+        this.handStrengthsEvaluator = Objects.requireNonNull(handStrengthsEvaluator);
+        Objects.requireNonNull(executor);
+        if (maxBatchSize < 1 || maxBatchSize > maxDealsInFlight) {
+            throw new IllegalArgumentException("Batch size must be between 1 and the limit of deals in flight, got: " + maxBatchSize);
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.dealsInFlight = new Semaphore(maxDealsInFlight);
+
+        try {
+            serverSocket = new ServerSocket();
+            serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to listen on port " + port, e);
+        }
+        executor.execute(() -> acceptConnections(executor));
+    }
+
+    public int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Closes the server socket and every connection, even if closing some of them fails.
+     */
+    @Override
+    public void close() {
+        var failure = close(serverSocket, null);
+        for (final Socket connection : connections) {
+            failure = close(connection, failure);
+        }
+        if (failure != null) {
+            throw new UncheckedIOException("Failed to close server on port " + port(), failure);
+        }
+    }
+
+    /**
+     * Closes the given resource, returning the first failure so far with any later one attached as suppressed.
+     */
+    private static IOException close(final Closeable closeable, final IOException failure) {
+        try {
+            closeable.close();
+            return failure;
+        } catch (IOException e) {
+            if (failure == null) {
+                return e;
+            }
+            failure.addSuppressed(e);
+            return failure;
+        }
+    }
+
+    private void acceptConnections(final ExecutorService executor) {
+        var backoffMillis = 0L;
+        while (!serverSocket.isClosed()) {
+            final Socket connection;
+            try {
+                connection = serverSocket.accept();
+                backoffMillis = 0;
+            } catch (IOException e) {
+                if (serverSocket.isClosed()) {
+                    return;
+                }
+                // A lasting failure, such as running out of file descriptors, is retried after a growing pause instead
+                // of spinning, while a connection dropped before it was accepted is retried almost at once
+                backoffMillis = Math.min(Math.max(1, backoffMillis * 2), MAX_ACCEPT_BACKOFF_MILLIS);
+                if (!pause(backoffMillis)) {
+                    return;
+                }
+                continue;
+            }
+
+            connections.add(connection);
+            try {
+                executor.execute(() -> serve(connection));
+            } catch (RejectedExecutionException e) {
+                // Nobody can serve the connection, so it is closed rather than left open until the server is closed
+                connections.remove(connection);
+                close(connection, null);
+            }
+        }
+    }
+
+    /**
+     * Sleeps for the given time, returning {@code false} if interrupted.
+     */
+    private static boolean pause(final long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void serve(final Socket connection) {
+        try (connection;
+             var reader = new BufferedReader(new InputStreamReader(connection.getInputStream(), StandardCharsets.US_ASCII));
+             var writer = new BufferedWriter(new OutputStreamWriter(connection.getOutputStream(), StandardCharsets.US_ASCII))) {
+            final var batch = new ArrayList<String>(maxBatchSize);
+            var line = reader.readLine();
+            while (line != null) {
+                batch.add(line);
+                while (batch.size() < maxBatchSize && reader.ready() && (line = reader.readLine()) != null) {
+                    batch.add(line);
+                }
+                answer(batch, writer);
+                batch.clear();
+                line = reader.readLine();
+            }
+        } catch (IOException e) {
+            // The connection was closed by the client or by closing the server, so there is nobody left to answer
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            connections.remove(connection);
+        }
+    }
+
+    private void answer(final List<String> batch, final Writer writer) throws IOException, InterruptedException {
+        final var answers = new StringBuilder(batch.size() * 8);
+        dealsInFlight.acquire(batch.size());
+        try {
+            evaluate(batch, answers);
+        } finally {
+            dealsInFlight.release(batch.size());
+        }
+        writer.append(answers).flush();
+    }
+
+    /**
+     * Parses every line of the batch, evaluates the hands of all parsed deals at once, and appends an answer per line.
+     */
+    private void evaluate(final List<String> batch, final StringBuilder answers) {
+        final var cardMasksOfDeals = new long[batch.size()][];
+        final var rejections = new String[batch.size()];
+        var handCount = 0;
+        for (int deal = 0; deal < batch.size(); deal++) {
+            try {
+                cardMasksOfDeals[deal] = parse(batch.get(deal));
+                handCount += cardMasksOfDeals[deal].length;
+            } catch (IllegalArgumentException e) {
+                rejections[deal] = e.getMessage();
+            }
+        }
+
+        final var cardMasks = new long[handCount];
+        var hand = 0;
+        for (final long[] cardMasksOfDeal : cardMasksOfDeals) {
+            if (cardMasksOfDeal != null) {
+                System.arraycopy(cardMasksOfDeal, 0, cardMasks, hand, cardMasksOfDeal.length);
+                hand += cardMasksOfDeal.length;
+            }
+        }
+        final var strengths = new int[handCount];
+        handStrengthsEvaluator.accept(cardMasks, strengths);
+
+        hand = 0;
+        for (int deal = 0; deal < batch.size(); deal++) {
+            if (rejections[deal] != null) {
+                answers.append("ERROR ").append(rejections[deal]).append('\n');
+                continue;
+            }
+            final var playerCount = cardMasksOfDeals[deal].length;
+            appendWinners(winnersOf(strengths, hand, playerCount), answers);
+            hand += playerCount;
+        }
+    }
+
+    private long[] parse(final String line) {
+        final var cardMasks = cardMasksFactory.apply(line);
+        if (cardMasks.length == 0 || cardMasks.length > Deal.MAX_PLAYER_COUNT) {
+            throw new IllegalArgumentException("A deal must comprise between 1 and " + Deal.MAX_PLAYER_COUNT + " hands, got: " + cardMasks.length);
+        }
+        return cardMasks;
+    }
+
+    /**
+     * A bitmask having a bit set for the index of every player holding the strongest hand of a deal.
+     */
+    private static int winnersOf(final int[] strengths, final int firstHand, final int playerCount) {
+        var bestStrength = strengths[firstHand];
+        var winners = 1;
+        for (int playerIndex = 1; playerIndex < playerCount; playerIndex++) {
+            final var strength = strengths[firstHand + playerIndex];
+            if (strength > bestStrength) {
+                bestStrength = strength;
+                winners = 1 << playerIndex;
+            } else if (strength == bestStrength) {
+                winners |= 1 << playerIndex;
+            }
+        }
+        return winners;
+    }
+
+    private static void appendWinners(final int winners, final StringBuilder answers) {
+        if (Integer.bitCount(winners) == 1) {
+            answers.append(Integer.numberOfTrailingZeros(winners) + 1).append('\n');
+            return;
+        }
+        answers.append("TIE");
+        for (var remainingWinners = winners; remainingWinners != 0; remainingWinners &= remainingWinners - 1) {
+            answers.append(' ').append(Integer.numberOfTrailingZeros(remainingWinners) + 1);
+        }
+        answers.append('\n');
+    }
+}
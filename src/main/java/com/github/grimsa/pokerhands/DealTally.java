@@ -0,0 +1,169 @@
+package com.github.grimsa.pokerhands;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Wins, ties and losses of every player, along with the number of deals won with each {@link Rank}, gathered in a single
+ * pass over deals.
+ * <p>
+ * A player wins a deal when their hand is stronger than all other hands, ties when it is the strongest together with
+ * some other hands, and loses otherwise. A tally is not thread-safe, but tallies of separate deals can be merged.
+ */
+public final class DealTally {
+    private long dealCount;
+    private long[] winCounts = new long[2];
+    private long[] tieCounts = new long[2];
+    private long[] lossCounts = new long[2];
+    private final long[] winCountsByRank = new long[Rank.values().length];
+
+    public void add(final Deal deal) {
+        final var playerCount = deal.playerCount();
+        ensurePlayerCount(playerCount);
+
+        final var winners = deal.winners();
+        final var outcomeCounts = Integer.bitCount(winners) == 1 ? winCounts : tieCounts;
+        for (int playerIndex = 0; playerIndex < playerCount; playerIndex++) {
+            if ((winners & 1 << playerIndex) != 0) {
+                outcomeCounts[playerIndex]++;
+            } else {
+                lossCounts[playerIndex]++;
+            }
+        }
+        winCountsByRank[deal.winningRank().ordinal()]++;
+        dealCount++;
+    }
+
+    /**
+     * Adds deals given as {@code int} strengths of every hand, as described by {@link Rank#STRENGTH_SHIFT}, laid out deal
+     * by deal with {@code playerCount} consecutive strengths for each deal.
+     */
+    public void addStrengths(final int[] strengths, final int playerCount) {
+        if (playerCount < 1 || playerCount > Deal.MAX_PLAYER_COUNT || strengths.length % playerCount != 0) {
+            throw new IllegalArgumentException("Expected strengths of " + playerCount + " players per deal, got " + strengths.length + " strengths");
+        }
+        ensurePlayerCount(playerCount);
+
+        for (int dealStart = 0; dealStart < strengths.length; dealStart += playerCount) {
+            var bestStrength = strengths[dealStart];
+            var winners = 1;
+            for (int playerIndex = 1; playerIndex < playerCount; playerIndex++) {
+                final var strength = strengths[dealStart + playerIndex];
+                if (strength > bestStrength) {
+                    bestStrength = strength;
+                    winners = 1 << playerIndex;
+                } else if (strength == bestStrength) {
+                    winners |= 1 << playerIndex;
+                }
+            }
+
+            final var outcomeCounts = Integer.bitCount(winners) == 1 ? winCounts : tieCounts;
+            for (int playerIndex = 0; playerIndex < playerCount; playerIndex++) {
+                if ((winners & 1 << playerIndex) != 0) {
+                    outcomeCounts[playerIndex]++;
+                } else {
+                    lossCounts[playerIndex]++;
+                }
+            }
+            winCountsByRank[Rank.ofStrength(bestStrength).ordinal()]++;
+        }
+        dealCount += strengths.length / playerCount;
+    }
+
+    public DealTally merge(final DealTally other) {
+        ensurePlayerCount(other.winCounts.length);
+        for (int playerIndex = 0; playerIndex < other.winCounts.length; playerIndex++) {
+            winCounts[playerIndex] += other.winCounts[playerIndex];
+            tieCounts[playerIndex] += other.tieCounts[playerIndex];
+            lossCounts[playerIndex] += other.lossCounts[playerIndex];
+        }
+        for (int rank = 0; rank < winCountsByRank.length; rank++) {
+            winCountsByRank[rank] += other.winCountsByRank[rank];
+        }
+        dealCount += other.dealCount;
+        return this;
+    }
+
+    public long dealCount() {
+        return dealCount;
+    }
+
+    public int playerCount() {
+        return winCounts.length;
+    }
+
+    public long winsOf(final int playerIndex) {
+        return countOf(winCounts, playerIndex);
+    }
+
+    public long tiesOf(final int playerIndex) {
+        return countOf(tieCounts, playerIndex);
+    }
+
+    public long lossesOf(final int playerIndex) {
+        return countOf(lossCounts, playerIndex);
+    }
+
+    /**
+     * Counts deals in which the winning hand, or the tied hands, were of the given rank.
+     */
+    public long winsWith(final Rank rank) {
+        return winCountsByRank[rank.ordinal()];
+    }
+
+    /**
+     * Writes the tally in a binary form that is read back by {@link #readFrom(DataInput)}.
+     */
+    void writeTo(final DataOutput output) throws IOException {
+        output.writeLong(dealCount);
+        output.writeInt(winCounts.length);
+        for (int playerIndex = 0; playerIndex < winCounts.length; playerIndex++) {
+            output.writeLong(winCounts[playerIndex]);
+            output.writeLong(tieCounts[playerIndex]);
+            output.writeLong(lossCounts[playerIndex]);
+        }
+        output.writeInt(winCountsByRank.length);
+        for (final long winCount : winCountsByRank) {
+            output.writeLong(winCount);
+        }
+    }
+
+    static DealTally readFrom(final DataInput input) throws IOException {
+        final var tally = new DealTally();
+        tally.dealCount = input.readLong();
+        final var playerCount = input.readInt();
+        if (playerCount < 0 || playerCount > Deal.MAX_PLAYER_COUNT) {
+            throw new IOException("Unsupported player count: " + playerCount);
+        }
+        tally.ensurePlayerCount(playerCount);
+        for (int playerIndex = 0; playerIndex < playerCount; playerIndex++) {
+            tally.winCounts[playerIndex] = input.readLong();
+            tally.tieCounts[playerIndex] = input.readLong();
+            tally.lossCounts[playerIndex] = input.readLong();
+        }
+        if (input.readInt() != tally.winCountsByRank.length) {
+            throw new IOException("Tally was written with another set of ranks");
+        }
+        for (int rank = 0; rank < tally.winCountsByRank.length; rank++) {
+            tally.winCountsByRank[rank] = input.readLong();
+        }
+        return tally;
+    }
+
+    private long countOf(final long[] counts, final int playerIndex) {
+        if (playerIndex < 0) {
+            throw new IndexOutOfBoundsException(playerIndex);
+        }
+        return playerIndex < counts.length ? counts[playerIndex] : 0;
+    }
+
+    private void ensurePlayerCount(final int playerCount) {
+        if (playerCount > winCounts.length) {
+            winCounts = Arrays.copyOf(winCounts, playerCount);
+            tieCounts = Arrays.copyOf(tieCounts, playerCount);
+            lossCounts = Arrays.copyOf(lossCounts, playerCount);
+        }
+    }
+}
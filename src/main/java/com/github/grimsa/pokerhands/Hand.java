@@ -1,4 +1,5 @@
 package com.github.grimsa.pokerhands;
 
 public interface Hand extends Comparable<Hand> {
+    Rank getRank();
 }
@@ -0,0 +1,103 @@
+package com.github.grimsa.pokerhands;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * A stage of a {@link DealPipeline} mapping every item with up to the given number of items mapped in parallel in the
+ * given executor, publishing the results in the order they are mapped.
+ * <p>
+ * No more items are requested from upstream than can be mapped at once, and publishing a result blocks while the buffer
+ * of a subscriber is full, so a slow subscriber slows down the whole pipeline upstream of it.
+ * <p>
+ * When mapping an item fails, upstream is cancelled and no further items are mapped, and the stage is closed with the
+ * failure only once the items still being mapped are done, so that nothing is submitted after closing.
+ */
+final class ParallelMappingProcessor<T, R> extends SubmissionPublisher<R> implements Flow.Processor<T, R> {
+    private final Function<T, R> mapping;
+    private final Executor executor;
+    private final int parallelism;
+    private final AtomicInteger itemsInFlight = new AtomicInteger();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private volatile boolean upstreamCompleted;
+    private Flow.Subscription subscription;
+
+    ParallelMappingProcessor(final Function<T, R> mapping, final Executor executor, final int bufferSize, final int parallelism) {
+        super(executor, bufferSize);
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive, got: " + parallelism);
+        }
+        this.mapping = Objects.requireNonNull(mapping);
+        this.executor = executor;
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(parallelism);
+    }
+
+    @Override
+    public void onNext(final T item) {
+        itemsInFlight.incrementAndGet();
+        executor.execute(() -> map(item));
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+        failure.compareAndSet(null, throwable);
+        upstreamCompleted = true;
+        if (itemsInFlight.get() == 0) {
+            finish();
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        upstreamCompleted = true;
+        if (itemsInFlight.get() == 0) {
+            finish();
+        }
+    }
+
+    private void map(final T item) {
+        if (failure.get() == null && !isClosed()) {
+            mapAndSubmit(item);
+        }
+
+        if (itemsInFlight.decrementAndGet() == 0 && (upstreamCompleted || failure.get() != null)) {
+            finish();
+        }
+    }
+
+    private void mapAndSubmit(final T item) {
+        final R result;
+        try {
+            result = mapping.apply(item);
+        } catch (RuntimeException e) {
+            failure.compareAndSet(null, e);
+            subscription.cancel();
+            return;
+        }
+
+        if (!isClosed()) {
+            submit(result);
+            subscription.request(1);
+        }
+    }
+
+    private void finish() {
+        final var throwable = failure.get();
+        if (throwable == null) {
+            close();
+        } else {
+            closeExceptionally(throwable);
+        }
+    }
+}
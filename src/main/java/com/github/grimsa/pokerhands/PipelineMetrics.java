@@ -0,0 +1,189 @@
+package com.github.grimsa.pokerhands;
+
+import com.github.grimsa.generic.LatencyHistogram;
+import com.github.grimsa.generic.MetricsSink;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * Counters and latency histograms of the stages of the pipeline, from reading deal files to aggregating deals, along
+ * with the number of hands evaluated with every {@link Rank} and the number of hands that failed to parse.
+ * <p>
+ * Stages are measured by decorating the functions making up the pipeline, e.g.
+ * {@code HandFromStringFactory.fromCardMasks(metrics.timedEvaluation(new PackedHandFromFiveCardsFactory()))}. A decorated
+ * stage includes the time of any stage it calls, so parsing decorated around evaluation includes evaluation time. The
+ * metrics of {@link #disabled()} return every function undecorated, so that disabled instrumentation costs nothing.
+ * <p>
+ * The metrics can be registered as an MBean and published to any {@link MetricsSink}. Safe for concurrent use.
+ */
+public final class PipelineMetrics implements PipelineMetricsMXBean {
+    public enum Stage {
+        READ,
+        PARSE,
+        EVALUATE,
+        AGGREGATE
+    }
+
+    private static final PipelineMetrics DISABLED = new PipelineMetrics(false);
+
+    private final boolean enabled;
+    private final LongAdder[] stageCounts = new LongAdder[Stage.values().length];
+    private final LatencyHistogram[] stageLatencies = new LatencyHistogram[Stage.values().length];
+    private final LongAdder[] handCountsByRank = new LongAdder[Rank.values().length];
+    private final LongAdder parseFailureCount = new LongAdder();
+
+    public PipelineMetrics() {
+        this(true);
+    }
+
+    private PipelineMetrics(final boolean enabled) {
+        this.enabled = enabled;
+        for (int stage = 0; stage < stageCounts.length; stage++) {
+            stageCounts[stage] = new LongAdder();
+            stageLatencies[stage] = new LatencyHistogram();
+        }
+        for (int rank = 0; rank < handCountsByRank.length; rank++) {
+            handCountsByRank[rank] = new LongAdder();
+        }
+    }
+
+    public static PipelineMetrics disabled() {
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public <T> Supplier<T> timedRead(final Supplier<T> reader) {
+        return enabled ? () -> time(Stage.READ, reader) : reader;
+    }
+
+    /**
+     * Decorates a parser, counting the hands it fails to parse with an {@link IllegalArgumentException}.
+     */
+    public Function<String, Hand> timedParse(final Function<String, Hand> parser) {
+        if (!enabled) {
+            return parser;
+        }
+        return handAsString -> {
+            final var startNanos = System.nanoTime();
+            try {
+                return parser.apply(handAsString);
+            } catch (IllegalArgumentException e) {
+                parseFailureCount.increment();
+                throw e;
+            } finally {
+                record(Stage.PARSE, System.nanoTime() - startNanos);
+            }
+        };
+    }
+
+    /**
+     * Decorates an evaluator, counting the hands it evaluates with every rank.
+     */
+    public LongFunction<Hand> timedEvaluation(final LongFunction<Hand> evaluator) {
+        if (!enabled) {
+            return evaluator;
+        }
+        return cardMask -> {
+            final var startNanos = System.nanoTime();
+            final var hand = evaluator.apply(cardMask);
+            record(Stage.EVALUATE, System.nanoTime() - startNanos);
+            handCountsByRank[hand.getRank().ordinal()].increment();
+            return hand;
+        };
+    }
+
+    /**
+     * Runs the given work, e.g. {@code dealHistory::tally} for {@link Stage#AGGREGATE}, recording its latency.
+     */
+    public <T> T time(final Stage stage, final Supplier<T> work) {
+        if (!enabled) {
+            return work.get();
+        }
+        final var startNanos = System.nanoTime();
+        final var result = work.get();
+        record(stage, System.nanoTime() - startNanos);
+        return result;
+    }
+
+    public void record(final Stage stage, final long latencyInNanos) {
+        if (!enabled) {
+            return;
+        }
+        stageCounts[stage.ordinal()].increment();
+        stageLatencies[stage.ordinal()].record(latencyInNanos);
+    }
+
+    public long countOf(final Stage stage) {
+        return stageCounts[stage.ordinal()].sum();
+    }
+
+    public LatencyHistogram latencyOf(final Stage stage) {
+        return stageLatencies[stage.ordinal()];
+    }
+
+    public long handsEvaluatedWith(final Rank rank) {
+        return handCountsByRank[rank.ordinal()].sum();
+    }
+
+    public long parseFailureCount() {
+        return parseFailureCount.sum();
+    }
+
+    @Override
+    public Map<String, Long> getCounters() {
+        final var counters = new LinkedHashMap<String, Long>();
+        for (final Stage stage : Stage.values()) {
+            counters.put(nameOf(stage) + ".count", countOf(stage));
+        }
+        for (final Rank rank : Rank.values()) {
+            counters.put("hands." + rank.name().toLowerCase(), handsEvaluatedWith(rank));
+        }
+        counters.put("parse.failures", parseFailureCount());
+        return counters;
+    }
+
+    @Override
+    public Map<String, Long> getLatenciesInNanos() {
+        final var latencies = new LinkedHashMap<String, Long>();
+        for (final Stage stage : Stage.values()) {
+            final var latency = latencyOf(stage);
+            latencies.put(nameOf(stage) + ".p50", latency.valueAtPercentile(50));
+            latencies.put(nameOf(stage) + ".p99", latency.valueAtPercentile(99));
+            latencies.put(nameOf(stage) + ".max", latency.max());
+        }
+        return latencies;
+    }
+
+    public void publishTo(final MetricsSink sink) {
+        getCounters().forEach(sink::accept);
+        getLatenciesInNanos().forEach((name, value) -> sink.accept(name + ".nanos", value));
+    }
+
+    /**
+     * Registers the metrics with the platform MBean server under the given name.
+     */
+    public ObjectName registerMBean(final String name) {
+        try {
+            final var objectName = new ObjectName("com.github.grimsa.pokerhands:type=PipelineMetrics,name=" + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+            return objectName;
+        } catch (JMException e) {
+            throw new IllegalStateException("Failed to register MBean " + name, e);
+        }
+    }
+
+    private static String nameOf(final Stage stage) {
+        return stage.name().toLowerCase();
+    }
+}
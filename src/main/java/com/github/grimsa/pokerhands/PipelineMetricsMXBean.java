@@ -0,0 +1,18 @@
+package com.github.grimsa.pokerhands;
+
+import java.util.Map;
+
+/**
+ * The view of {@link PipelineMetrics} exposed through JMX.
+ */
+public interface PipelineMetricsMXBean {
+    /**
+     * Calls of every stage, hands evaluated with every rank and parse failures, by name.
+     */
+    Map<String, Long> getCounters();
+
+    /**
+     * The median, 99th percentile and maximum latency of every stage in nanoseconds, by name.
+     */
+    Map<String, Long> getLatenciesInNanos();
+}
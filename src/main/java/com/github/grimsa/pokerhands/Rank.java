@@ -0,0 +1,25 @@
+package com.github.grimsa.pokerhands;
+
+public enum Rank {
+    HIGH_CARD,
+    ONE_PAIR,
+    TWO_PAIRS,
+    THREE_OF_A_KIND,
+    STRAIGHT,
+    FLUSH,
+    FULL_HOUSE,
+    FOUR_OF_A_KIND,
+    STRAIGHT_FLUSH;
+
+    /**
+     * The position of the rank in an {@code int} hand strength, which holds the ordinal of the rank in the bits above it
+     * and tie-breaking card values below it, so that a stronger hand has a greater strength.
+     */
+    public static final int STRENGTH_SHIFT = 20;
+
+    private static final Rank[] VALUES = values();
+
+    public static Rank ofStrength(final int strength) {
+        return VALUES[strength >>> STRENGTH_SHIFT];
+    }
+}
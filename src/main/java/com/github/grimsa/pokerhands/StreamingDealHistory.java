@@ -0,0 +1,43 @@
+package com.github.grimsa.pokerhands;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * A {@link DealHistory} counterpart for histories too large to be held in memory.
+ * <p>
+ * Every query makes a single pass over a fresh stream of deals, parsing, evaluating and tallying them one at a time.
+ */
+final class StreamingDealHistory {
+    private final Supplier<Stream<Deal>> dealsSupplier;
+
+    StreamingDealHistory(final Supplier<Stream<Deal>> dealsSupplier) {
+        this.dealsSupplier = Objects.requireNonNull(dealsSupplier);
+    }
+
+    long dealCount() {
+        try (final Stream<Deal> deals = dealsSupplier.get()) {
+            return deals.count();
+        }
+    }
+
+    long countWinsOfPlayer(int playerIndex) {
+        try (final Stream<Deal> deals = dealsSupplier.get()) {
+            return deals
+                    .filter(deal -> deal.isWonBy(playerIndex))
+                    .count();
+        }
+    }
+
+    /**
+     * Tallies the outcomes of all deals for every player in a single pass, evaluating each hand just once.
+     */
+    DealTally tally() {
+        final var tally = new DealTally();
+        try (final Stream<Deal> deals = dealsSupplier.get()) {
+            deals.forEachOrdered(tally::add);
+        }
+        return tally;
+    }
+}
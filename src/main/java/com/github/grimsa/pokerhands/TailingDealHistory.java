@@ -0,0 +1,137 @@
+package com.github.grimsa.pokerhands;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * A {@link DealHistory} counterpart for deal files that keep growing as deals are appended to them.
+ * <p>
+ * Every {@link #refresh()} reads the file from the end of the last complete line read so far, and adds the newly
+ * appended deals to a running {@link DealTally}. A trailing line without a line terminator is left to be read once it is
+ * complete, so the cost of a refresh is proportional to the appended data only. A complete line the deal factory
+ * rejects with an {@link IllegalArgumentException} is skipped and handed to the given consumer together with its offset,
+ * so one malformed line does not stop the deals after it from being read. Not thread-safe.
+ */
+final class TailingDealHistory {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Path path;
+    private final Function<String, Deal> dealFactory;
+    private final ObjLongConsumer<String> rejectedLineConsumer;
+    private final DealTally tally = new DealTally();
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private long offset;
+    private long rejectedLineCount;
+
+    TailingDealHistory(final Path path, final Function<String, Deal> dealFactory) {
+        this(path, dealFactory, (line, lineOffset) -> {
+        });
+    }
+
+    /**
+     * @param rejectedLineConsumer receives every line rejected by the deal factory and the byte offset it starts at
+     */
+    TailingDealHistory(final Path path, final Function<String, Deal> dealFactory, final ObjLongConsumer<String> rejectedLineConsumer) {
+        this.path = Objects.requireNonNull(path);
+        this.dealFactory = Objects.requireNonNull(dealFactory);
+        this.rejectedLineConsumer = Objects.requireNonNull(rejectedLineConsumer);
+    }
+
+    /**
+     * Reads deals appended since the last refresh, returning the number of new deals.
+     */
+    long refresh() {
+        final var dealCountBefore = tally.dealCount();
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < offset) {
+                throw new IllegalStateException("File " + path + " was truncated below the offset " + offset + " already read");
+            }
+
+            buffer.clear();
+            while (channel.read(buffer, offset) > 0) {
+                buffer.flip();
+                if (readCompleteLines() == 0) {
+                    if (buffer.limit() == buffer.capacity()) {
+                        throw new IllegalArgumentException("Unsupported deal file format. Line at offset " + offset + " exceeds " + BUFFER_SIZE + " bytes");
+                    }
+                    break;
+                }
+                buffer.clear();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read file " + path, e);
+        }
+        return tally.dealCount() - dealCountBefore;
+    }
+
+    /**
+     * The byte offset in the file up to which deals have been read.
+     */
+    long offset() {
+        return offset;
+    }
+
+    long dealCount() {
+        return tally.dealCount();
+    }
+
+    /**
+     * The number of lines skipped so far because the deal factory rejected them.
+     */
+    long rejectedLineCount() {
+        return rejectedLineCount;
+    }
+
+    long countWinsOfPlayer(final int playerIndex) {
+        return tally.winsOf(playerIndex);
+    }
+
+    /**
+     * A copy of the running tally of all deals read so far, which later refreshes leave untouched.
+     */
+    DealTally tally() {
+        return new DealTally().merge(tally);
+    }
+
+    private void addDeal(final String line) {
+        final Deal deal;
+        try {
+            deal = dealFactory.apply(line);
+        } catch (IllegalArgumentException e) {
+            rejectedLineCount++;
+            rejectedLineConsumer.accept(line, offset);
+            return;
+        }
+        tally.add(deal);
+    }
+
+    /**
+     * Adds every line in the buffer that is terminated by {@code \n}, advancing the offset past each line as soon as it
+     * is added or skipped, and returns the number of bytes consumed.
+     */
+    private int readCompleteLines() {
+        final var bytes = buffer.array();
+        var lineStart = 0;
+        for (int index = 0; index < buffer.limit(); index++) {
+            if (bytes[index] == '\n') {
+                var lineEnd = index;
+                if (lineEnd > lineStart && bytes[lineEnd - 1] == '\r') {
+                    lineEnd--;
+                }
+                if (lineEnd > lineStart) {
+                    addDeal(new String(bytes, lineStart, lineEnd - lineStart, StandardCharsets.US_ASCII));
+                }
+                offset += index + 1 - lineStart;
+                lineStart = index + 1;
+            }
+        }
+        return lineStart;
+    }
+}
@@ -0,0 +1,259 @@
+package com.github.grimsa.pokerhands;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the {@link DealTally} of deal files in a directory, keyed by the SHA-256 hash of the file content and of the
+ * parameters of the tally, so that re-analysing an unchanged file only costs reading it once for the hash instead of
+ * parsing and evaluating every deal.
+ * <p>
+ * Every entry is written to a temporary file that is forced to disk and then atomically moved in place, so a crash
+ * during a write never leaves a partial entry behind. Writing is best-effort, and a deal file that changes while it is
+ * tallied is not cached at all. The last modified time of an entry is refreshed whenever it is read, and the least
+ * recently used entries are evicted once the entries exceed the size limit, along with temporary files left behind by a
+ * crash. Eviction is best-effort: files that cannot be deleted are left for the next eviction.
+ */
+public final class TallyCache {
+    private static final int FORMAT_VERSION = 1;
+    private static final String ENTRY_SUFFIX = ".tally";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+    private static final Duration STALE_TEMPORARY_FILE_AGE = Duration.ofHours(1);
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Path directory;
+    private final long maxSizeInBytes;
+    private final boolean enabled;
+
+    private TallyCache(final Path directory, final long maxSizeInBytes, final boolean enabled) {
+        this.directory = directory;
+        this.maxSizeInBytes = maxSizeInBytes;
+        this.enabled = enabled;
+    }
+
+    public static TallyCache inDirectory(final Path directory, final long maxSizeInBytes) {
+        Objects.requireNonNull(directory);
+        if (maxSizeInBytes < 0) {
+            throw new IllegalArgumentException("Size limit must not be negative, got: " + maxSizeInBytes);
+        }
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to create directory " + directory, e);
+        }
+        return new TallyCache(directory, maxSizeInBytes, true);
+    }
+
+    /**
+     * A cache that is bypassed, always tallying the deals anew and storing nothing.
+     */
+    public static TallyCache bypassed() {
+        return new TallyCache(null, 0, false);
+    }
+
+    /**
+     * Returns the cached tally of the given deal file, or tallies it with the given supplier and caches the result.
+     *
+     * @param tallyParameters everything the tally depends on besides the content of the file, e.g. the player count and
+     *                        the hand factory, so that tallies computed differently are never mistaken for each other
+     */
+    public DealTally tally(final Path dealFile, final String tallyParameters, final Supplier<DealTally> tallySupplier) {
+        Objects.requireNonNull(tallyParameters);
+        Objects.requireNonNull(tallySupplier);
+        if (!enabled) {
+            return tallySupplier.get();
+        }
+
+        final var hash = hashOf(dealFile, tallyParameters);
+        final var entry = directory.resolve(hash + ENTRY_SUFFIX);
+        final var cachedTally = read(entry);
+        if (cachedTally != null) {
+            return cachedTally;
+        }
+
+        final var tally = tallySupplier.get();
+        // The file is read again for the tally, so a file changed in between must not have its tally cached under the
+        // hash of its earlier content
+        if (hash.equals(hashOrNullOf(dealFile, tallyParameters)) && write(entry, tally)) {
+            evictLeastRecentlyUsed();
+        }
+        return tally;
+    }
+
+    private DealTally read(final Path entry) {
+        try (var input = new DataInputStream(new BufferedInputStream(Files.newInputStream(entry)))) {
+            if (input.readInt() != FORMAT_VERSION) {
+                return null;
+            }
+            final var tally = DealTally.readFrom(input);
+            markUsed(entry);
+            return tally;
+        } catch (IOException e) {
+            // A missing entry, or one damaged on disk, is tallied and written anew
+            return null;
+        }
+    }
+
+    private static void markUsed(final Path entry) {
+        try {
+            Files.setLastModifiedTime(entry, FileTime.from(Instant.now()));
+        } catch (IOException e) {
+            // The entry is still valid, it only becomes more likely to be evicted
+        }
+    }
+
+    /**
+     * Writes the entry, returning {@code false} if it could not be written. Writing is best-effort, as the tally has
+     * already been computed and is still returned without being cached.
+     */
+    private boolean write(final Path entry, final DealTally tally) {
+        final Path temporaryFile;
+        try {
+            temporaryFile = Files.createTempFile(directory, entry.getFileName().toString(), TEMPORARY_SUFFIX);
+        } catch (IOException e) {
+            // E.g. the directory is full or was removed, so the next miss tries again
+            return false;
+        }
+        try {
+            try (var channel = FileChannel.open(temporaryFile, StandardOpenOption.WRITE);
+                 var output = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)))) {
+                output.writeInt(FORMAT_VERSION);
+                tally.writeTo(output);
+                output.flush();
+                // Without it, a crash soon after the move could leave an entry in place whose content never reached
+                // the disk
+                channel.force(true);
+            }
+            Files.move(temporaryFile, entry, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return true;
+        } catch (IOException e) {
+            // The partial temporary file is deleted below
+            return false;
+        } finally {
+            deleteIfExists(temporaryFile);
+        }
+    }
+
+    private void evictLeastRecentlyUsed() {
+        final List<Path> files;
+        try (Stream<Path> listedFiles = Files.list(directory)) {
+            files = listedFiles.collect(Collectors.toList());
+        } catch (IOException | UncheckedIOException e) {
+            // The next write tries again
+            return;
+        }
+
+        final var staleBefore = Instant.now().minus(STALE_TEMPORARY_FILE_AGE);
+        final var entryAttributes = new HashMap<Path, BasicFileAttributes>();
+        for (final Path file : files) {
+            final var attributes = attributesOf(file);
+            if (attributes == null) {
+                continue;
+            }
+            final var fileName = file.getFileName().toString();
+            if (fileName.endsWith(ENTRY_SUFFIX)) {
+                entryAttributes.put(file, attributes);
+            } else if (fileName.endsWith(TEMPORARY_SUFFIX) && attributes.lastModifiedTime().toInstant().isBefore(staleBefore)) {
+                deleteIfExists(file);
+            }
+        }
+
+        final var entries = new ArrayList<>(entryAttributes.keySet());
+        entries.sort(Comparator.comparing((Path entry) -> entryAttributes.get(entry).lastModifiedTime()).reversed());
+        var size = 0L;
+        for (final Path entry : entries) {
+            size += entryAttributes.get(entry).size();
+            if (size > maxSizeInBytes) {
+                deleteIfExists(entry);
+            }
+        }
+    }
+
+    private static BasicFileAttributes attributesOf(final Path file) {
+        try {
+            return Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (IOException e) {
+            // Already gone, e.g. evicted by another process sharing the directory
+            return null;
+        }
+    }
+
+    private static void deleteIfExists(final Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // Left for the next eviction
+        }
+    }
+
+    private static String hashOf(final Path file, final String tallyParameters) {
+        try {
+            return hashOrThrowOf(file, tallyParameters);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read file " + file, e);
+        }
+    }
+
+    private static String hashOrNullOf(final Path file, final String tallyParameters) {
+        try {
+            return hashOrThrowOf(file, tallyParameters);
+        } catch (IOException e) {
+            // Treated like a changed file, so nothing is cached
+            return null;
+        }
+    }
+
+    private static String hashOrThrowOf(final Path file, final String tallyParameters) throws IOException {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is required to be supported by every Java platform", e);
+        }
+
+        final var parameterBytes = tallyParameters.getBytes(StandardCharsets.UTF_8);
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(parameterBytes.length).array());
+        digest.update(parameterBytes);
+
+        try (InputStream input = new DigestInputStream(Files.newInputStream(file), digest)) {
+            final var buffer = new byte[BUFFER_SIZE];
+            while (input.read(buffer) >= 0) {
+                // the digest is updated as the file is read
+            }
+        }
+
+        final var hash = new StringBuilder();
+        for (final byte hashByte : digest.digest()) {
+            hash.append(Character.forDigit(hashByte >>> 4 & 0xF, 16)).append(Character.forDigit(hashByte & 0xF, 16));
+        }
+        return hash.toString();
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.grimsa.pokerhands;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+
+/**
+ * The last stage of a {@link DealPipeline}, adding deals to a running {@link DealTally} and publishing a snapshot of it
+ * after every given number of deals, and once more when all deals have been added.
+ */
+final class TallyProcessor extends SubmissionPublisher<DealTally> implements Flow.Processor<Deal, DealTally> {
+    private final long snapshotInterval;
+    private final DealTally tally = new DealTally();
+
+    TallyProcessor(final Executor executor, final int bufferSize, final long snapshotInterval) {
+        super(executor, bufferSize);
+        if (snapshotInterval < 1) {
+            throw new IllegalArgumentException("Snapshot interval must be positive, got: " + snapshotInterval);
+        }
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(final Deal deal) {
+        tally.add(deal);
+        if (tally.dealCount() % snapshotInterval == 0) {
+            submit(snapshot());
+        }
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+        closeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        if (tally.dealCount() % snapshotInterval != 0 || tally.dealCount() == 0) {
+            submit(snapshot());
+        }
+        close();
+    }
+
+    private DealTally snapshot() {
+        return new DealTally().merge(tally);
+    }
+}
@@ -0,0 +1,287 @@
+package com.github.grimsa.pokerhands.deal;
+
+import com.github.grimsa.pokerhands.Deal;
+import com.github.grimsa.pokerhands.Hand;
+import com.github.grimsa.pokerhands.hand.CardMask;
+import com.github.grimsa.pokerhands.hand.PackedHandFromFiveCardsFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A file of deals in a compact binary format, which is a fraction of the size of the text format and needs no parsing.
+ * <p>
+ * The file starts with a 16 byte header holding the {@link #MAGIC} number, the format {@link #VERSION}, the player count
+ * and the number of deals. Every deal follows as a big-endian {@code int} per player, holding the index of each of the
+ * five cards in 6 bits, starting from the lowest bits. A card index is the suit ordinal times 13 plus the value ordinal,
+ * the bit a card occupies in a {@link CardMask}.
+ * <p>
+ * Text files are converted by {@link #convert(Supplier, int, Path)}. The returned stream must be closed to release the
+ * file.
+ */
+public final class BinaryDealFile implements Supplier<Stream<Deal>> {
+    static final int MAGIC = 0x504B4844;
+    static final byte VERSION = 1;
+    static final int HEADER_LENGTH = 16;
+    private static final int CARD_COUNT = 52;
+    private static final int CARDS_PER_HAND = 5;
+    private static final int BITS_PER_CARD = 6;
+    private static final int CARD_BITS = (1 << BITS_PER_CARD) - 1;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Path path;
+    private final LongFunction<Hand> handFromCardMaskFactory;
+
+    public BinaryDealFile(final Path path) {
+        this(path, new PackedHandFromFiveCardsFactory());
+    }
+
+    public BinaryDealFile(final Path path, final LongFunction<Hand> handFromCardMaskFactory) {
+        this.path = Objects.requireNonNull(path);
+        this.handFromCardMaskFactory = Objects.requireNonNull(handFromCardMaskFactory);
+    }
+
+    /**
+     * Converts deals of the given number of players from the text format to a binary file at the given path, replacing
+     * any existing file.
+     */
+    public static BinaryDealFile convert(final Supplier<Stream<String>> dealFileLinesSupplier, final int playerCount, final Path target) {
+        if (playerCount < DealFromStringFactory.MIN_PLAYER_COUNT || playerCount > DealFromStringFactory.MAX_PLAYER_COUNT) {
+            throw new IllegalArgumentException("Player count must be between " + DealFromStringFactory.MIN_PLAYER_COUNT + " and " + DealFromStringFactory.MAX_PLAYER_COUNT + ", got: " + playerCount);
+        }
+
+        try (var channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             var lines = dealFileLinesSupplier.get()) {
+            writeFully(channel, header(playerCount, 0));
+
+            final var buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            final var cardMasks = new long[playerCount];
+            final var dealCount = new long[1];
+            lines.forEachOrdered(line -> {
+                DealFromStringFactory.parseCardMasks(line, cardMasks);
+                if (buffer.remaining() < playerCount * Integer.BYTES) {
+                    buffer.flip();
+                    writeFully(channel, buffer);
+                    buffer.clear();
+                }
+                for (final long cardMask : cardMasks) {
+                    buffer.putInt(encode(cardMask));
+                }
+                dealCount[0]++;
+            });
+            buffer.flip();
+            writeFully(channel, buffer);
+
+            channel.position(0);
+            writeFully(channel, header(playerCount, dealCount[0]));
+        } catch (IOException | UncheckedIOException e) {
+            throw new IllegalStateException("Failed to write file " + target, e);
+        }
+        return new BinaryDealFile(target);
+    }
+
+    public int playerCount() {
+        return readHeader().get(5);
+    }
+
+    public long dealCount() {
+        return readHeader().getLong(8);
+    }
+
+    /**
+     * Reads all deals at once, e.g. for a {@code Supplier<List<Deal>>}.
+     */
+    public List<Deal> readAll() {
+        try (var deals = get()) {
+            return deals.collect(Collectors.toUnmodifiableList());
+        }
+    }
+
+    /**
+     * Reads the cards of all hands as {@link CardMask}s without evaluating them, laid out deal by deal with
+     * {@link #playerCount()} consecutive hands for each deal, e.g. for evaluation in a batch.
+     */
+    public long[] readCardMasks() {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final var header = readHeader(channel);
+            final var cardMasks = new long[Math.toIntExact(header.getLong(8) * header.get(5))];
+            final var buffer = ByteBuffer.allocate(BUFFER_SIZE - BUFFER_SIZE % Integer.BYTES);
+            var hand = 0;
+            while (hand < cardMasks.length) {
+                buffer.clear();
+                readFully(channel, buffer);
+                buffer.flip();
+                if (!buffer.hasRemaining()) {
+                    throw new IllegalArgumentException("Unsupported deal file format. File is truncated: " + path);
+                }
+                while (buffer.remaining() >= Integer.BYTES && hand < cardMasks.length) {
+                    cardMasks[hand++] = decode(buffer.getInt());
+                }
+            }
+            return cardMasks;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read file " + path, e);
+        }
+    }
+
+    @Override
+    public Stream<Deal> get() {
+        final FileChannel channel;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read file " + path, e);
+        }
+
+        final DealSpliterator spliterator;
+        try {
+            spliterator = new DealSpliterator(channel);
+        } catch (RuntimeException e) {
+            close(channel);
+            throw e;
+        }
+        return StreamSupport.stream(spliterator, false)
+                .onClose(() -> close(channel));
+    }
+
+    static int encode(final long cardMask) {
+        var hand = 0;
+        var remainingCards = cardMask;
+        for (int card = 0; card < CARDS_PER_HAND; card++) {
+            hand |= Long.numberOfTrailingZeros(remainingCards) << (card * BITS_PER_CARD);
+            remainingCards &= remainingCards - 1;
+        }
+        return hand;
+    }
+
+    static long decode(final int hand) {
+        long cardMask = 0;
+        for (int card = 0; card < CARDS_PER_HAND; card++) {
+            final var index = hand >>> (card * BITS_PER_CARD) & CARD_BITS;
+            if (index >= CARD_COUNT) {
+                throw new IllegalArgumentException("Unsupported deal file format. Card index out of range: " + index);
+            }
+            cardMask |= 1L << index;
+        }
+        return cardMask;
+    }
+
+    private static ByteBuffer header(final int playerCount, final long dealCount) {
+        return ByteBuffer.allocate(HEADER_LENGTH)
+                .putInt(MAGIC)
+                .put(VERSION)
+                .put((byte) playerCount)
+                .putShort((short) 0)
+                .putLong(dealCount)
+                .flip();
+    }
+
+    private static void writeFully(final FileChannel channel, final ByteBuffer buffer) {
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ByteBuffer readHeader() {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return readHeader(channel);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read file " + path, e);
+        }
+    }
+
+    private ByteBuffer readHeader(final FileChannel channel) {
+        final var header = ByteBuffer.allocate(HEADER_LENGTH);
+        readFully(channel, header);
+        if (header.position() < HEADER_LENGTH || header.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a binary deal file: " + path);
+        }
+        if (header.get(4) != VERSION) {
+            throw new IllegalArgumentException("Unsupported binary deal file version " + header.get(4) + ": " + path);
+        }
+        if (header.get(5) < DealFromStringFactory.MIN_PLAYER_COUNT || header.get(5) > DealFromStringFactory.MAX_PLAYER_COUNT) {
+            throw new IllegalArgumentException("Unsupported player count " + header.get(5) + ": " + path);
+        }
+        return header;
+    }
+
+    private void readFully(final FileChannel channel, final ByteBuffer buffer) {
+        try {
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // keep reading until the buffer is full or the file ends
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read file " + path, e);
+        }
+    }
+
+    private void close(final FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close file " + path, e);
+        }
+    }
+
+    private final class DealSpliterator extends Spliterators.AbstractSpliterator<Deal> {
+        private final FileChannel channel;
+        private final int playerCount;
+        private final ByteBuffer buffer;
+        private long remainingDeals;
+
+        DealSpliterator(final FileChannel channel) {
+            this(channel, readHeader(channel));
+        }
+
+        private DealSpliterator(final FileChannel channel, final ByteBuffer header) {
+            super(header.getLong(8), Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.SIZED);
+            this.channel = channel;
+            this.playerCount = header.get(5);
+            this.remainingDeals = header.getLong(8);
+            this.buffer = ByteBuffer.allocate(BUFFER_SIZE - BUFFER_SIZE % (playerCount * Integer.BYTES)).flip();
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super Deal> action) {
+            if (remainingDeals == 0) {
+                return false;
+            }
+
+            if (buffer.remaining() < playerCount * Integer.BYTES) {
+                buffer.compact();
+                readFully(channel, buffer);
+                buffer.flip();
+                if (buffer.remaining() < playerCount * Integer.BYTES) {
+                    throw new IllegalArgumentException("Unsupported deal file format. File is truncated: " + path);
+                }
+            }
+
+            final var hands = new Hand[playerCount];
+            for (int playerIndex = 0; playerIndex < playerCount; playerIndex++) {
+                hands[playerIndex] = handFromCardMaskFactory.apply(decode(buffer.getInt()));
+            }
+            remainingDeals--;
+            action.accept(new Deal(Arrays.asList(hands)));
+            return true;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.github.grimsa.pokerhands.deal;
+
+import java.util.function.Function;
+
+/**
+ * Parses the cards of every player from a line of a deal file as a {@link com.github.grimsa.pokerhands.hand.CardMask},
+ * like {@link DealFromStringFactory}, but leaves evaluating the hands to the caller.
+ */
+public final class CardMasksFromStringFactory implements Function<String, long[]> {
+    private final int playerCount;
+
+    public CardMasksFromStringFactory(final int playerCount) {
+        if (playerCount < DealFromStringFactory.MIN_PLAYER_COUNT || playerCount > DealFromStringFactory.MAX_PLAYER_COUNT) {
+            throw new IllegalArgumentException("Player count must be between " + DealFromStringFactory.MIN_PLAYER_COUNT + " and "
+                    + DealFromStringFactory.MAX_PLAYER_COUNT + ", got: " + playerCount);
+        }
+        this.playerCount = playerCount;
+    }
+
+    @Override
+    public long[] apply(final String lineInDealsFile) {
+        final var cardMasks = new long[playerCount];
+        DealFromStringFactory.parseCardMasks(lineInDealsFile, cardMasks);
+        return cardMasks;
+    }
+}
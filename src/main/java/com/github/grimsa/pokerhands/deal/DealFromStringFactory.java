@@ -0,0 +1,87 @@
+package com.github.grimsa.pokerhands.deal;
+
+import com.github.grimsa.pokerhands.Deal;
+import com.github.grimsa.pokerhands.Hand;
+import com.github.grimsa.pokerhands.hand.CardMask;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+/**
+ * Parses a deal of a fixed number of players from a line holding five cards of every player, separated by single spaces,
+ * e.g. {@code 8C TS KC 9H 4S 7D 2S 5D 3S AC 5C AD 5D AC 9C} for three players.
+ * <p>
+ * The line is parsed in a single pass, handing the cards of every player on as a {@link CardMask}, and a deal holding the
+ * same card twice is rejected.
+ */
+public final class DealFromStringFactory implements Function<String, Deal> {
+    static final int MIN_PLAYER_COUNT = 2;
+    static final int MAX_PLAYER_COUNT = 10;
+    private static final int CARDS_PER_HAND = 5;
+    private static final int HAND_LENGTH = CARDS_PER_HAND * 3 - 1;
+
+    private final int playerCount;
+    private final LongFunction<Hand> handFromCardMaskFactory;
+
+    public DealFromStringFactory(final int playerCount, final LongFunction<Hand> handFromCardMaskFactory) {
+        if (playerCount < MIN_PLAYER_COUNT || playerCount > MAX_PLAYER_COUNT) {
+            throw new IllegalArgumentException("Player count must be between " + MIN_PLAYER_COUNT + " and " + MAX_PLAYER_COUNT + ", got: " + playerCount);
+        }
+        this.playerCount = playerCount;
+        this.handFromCardMaskFactory = Objects.requireNonNull(handFromCardMaskFactory);
+    }
+
+    @Override
+    public Deal apply(final String lineInDealsFile) {
+        final var cardMasks = new long[playerCount];
+        parseCardMasks(lineInDealsFile, cardMasks);
+
+        final var hands = new Hand[playerCount];
+        for (int playerIndex = 0; playerIndex < playerCount; playerIndex++) {
+            hands[playerIndex] = handFromCardMaskFactory.apply(cardMasks[playerIndex]);
+        }
+        return new Deal(Arrays.asList(hands));
+    }
+
+    /**
+     * Parses the cards of as many players as the given array holds into it, without evaluating them.
+     */
+    static void parseCardMasks(final String lineInDealsFile, final long[] cardMasks) {
+        final var rejectionReason = tryParseCardMasks(lineInDealsFile, cardMasks);
+        if (rejectionReason != null) {
+            throw new IllegalArgumentException(rejectionReason.getDescription() + ". Offending line: " + lineInDealsFile);
+        }
+    }
+
+    /**
+     * Parses the cards like {@link #parseCardMasks(String, long[])}, but returns the reason instead of throwing when the
+     * line is rejected, or {@code null} when it is accepted.
+     */
+    static Quarantine.Reason tryParseCardMasks(final String lineInDealsFile, final long[] cardMasks) {
+        final var playerCount = cardMasks.length;
+        if (lineInDealsFile.length() != playerCount * (HAND_LENGTH + 1) - 1) {
+            return Quarantine.Reason.WRONG_LENGTH;
+        }
+
+        long dealtCards = 0;
+        for (int playerIndex = 0; playerIndex < playerCount; playerIndex++) {
+            final var from = playerIndex * (HAND_LENGTH + 1);
+            if (playerIndex > 0 && lineInDealsFile.charAt(from - 1) != ' ') {
+                return Quarantine.Reason.MISSING_SEPARATOR;
+            }
+
+            final var cardMask = CardMask.tryParse(lineInDealsFile, from, from + HAND_LENGTH);
+            if (cardMask == CardMask.INVALID) {
+                return Quarantine.Reason.MALFORMED_CARD;
+            }
+            if (CardMask.size(cardMask) != CARDS_PER_HAND || (dealtCards & cardMask) != 0) {
+                return Quarantine.Reason.DUPLICATE_CARD;
+            }
+            dealtCards |= cardMask;
+            cardMasks[playerIndex] = cardMask;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,33 @@
+package com.github.grimsa.pokerhands.deal;
+
+import com.github.grimsa.pokerhands.Deal;
+import com.github.grimsa.pokerhands.Hand;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Parses deals of any supported number of players, generalising {@link TwoPlayerDealsFactory}.
+ *
+ * @see DealFromStringFactory
+ */
+public final class DealsFactory implements Supplier<List<Deal>> {
+    private final Supplier<List<String>> dealFileLinesSupplier;
+    private final Function<String, Deal> dealFactory;
+
+    public DealsFactory(final Supplier<List<String>> dealFileLinesSupplier, final int playerCount, final LongFunction<Hand> handFromCardMaskFactory) {
+        this.dealFileLinesSupplier = Objects.requireNonNull(dealFileLinesSupplier);
+        this.dealFactory = new DealFromStringFactory(playerCount, handFromCardMaskFactory);
+    }
+
+    @Override
+    public List<Deal> get() {
+        return dealFileLinesSupplier.get().stream()
+                .map(dealFactory)
+                .collect(Collectors.toUnmodifiableList());
+    }
+}
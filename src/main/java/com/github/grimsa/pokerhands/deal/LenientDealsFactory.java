@@ -0,0 +1,75 @@
+package com.github.grimsa.pokerhands.deal;
+
+import com.github.grimsa.pokerhands.Deal;
+import com.github.grimsa.pokerhands.Hand;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Parses deals like {@link DealsFactory}, but instead of failing on the first malformed line, sends every such line to
+ * a {@link Quarantine} and carries on with the next one. The {@link Quarantine#summary() summary} of the quarantine is
+ * reported once all lines have been parsed.
+ * <p>
+ * Rejected lines are detected by return values rather than exceptions, so a file with many bad lines is parsed about as
+ * fast as a clean one.
+ */
+public final class LenientDealsFactory implements Supplier<List<Deal>> {
+    private final Supplier<Stream<String>> dealFileLinesSupplier;
+    private final int playerCount;
+    private final LongFunction<Hand> handFromCardMaskFactory;
+    private final Quarantine quarantine;
+    private final Consumer<String> summaryReporter;
+
+    public LenientDealsFactory(final Supplier<Stream<String>> dealFileLinesSupplier, final int playerCount,
+                               final LongFunction<Hand> handFromCardMaskFactory, final Quarantine quarantine,
+                               final Consumer<String> summaryReporter) {
+        if (playerCount < DealFromStringFactory.MIN_PLAYER_COUNT || playerCount > DealFromStringFactory.MAX_PLAYER_COUNT) {
+            throw new IllegalArgumentException("Player count must be between " + DealFromStringFactory.MIN_PLAYER_COUNT + " and "
+                    + DealFromStringFactory.MAX_PLAYER_COUNT + ", got: " + playerCount);
+        }
+        this.dealFileLinesSupplier = Objects.requireNonNull(dealFileLinesSupplier);
+        this.playerCount = playerCount;
+        this.handFromCardMaskFactory = Objects.requireNonNull(handFromCardMaskFactory);
+        this.quarantine = Objects.requireNonNull(quarantine);
+        this.summaryReporter = Objects.requireNonNull(summaryReporter);
+    }
+
+    /**
+     * Parses the accepted lines into deals, leaving the rejected ones in the quarantine, and reports its summary.
+     */
+    @Override
+    public List<Deal> get() {
+        final var deals = new ArrayList<Deal>();
+        final var cardMasks = new long[playerCount];
+        try (Stream<String> lines = dealFileLinesSupplier.get()) {
+            final var iterator = lines.iterator();
+            long lineNumber = 0;
+            while (iterator.hasNext()) {
+                final var line = iterator.next();
+                lineNumber++;
+                final var rejectionReason = DealFromStringFactory.tryParseCardMasks(line, cardMasks);
+                if (rejectionReason != null) {
+                    quarantine.reject(lineNumber, line, rejectionReason);
+                    continue;
+                }
+
+                final var hands = new Hand[playerCount];
+                for (int playerIndex = 0; playerIndex < playerCount; playerIndex++) {
+                    hands[playerIndex] = handFromCardMaskFactory.apply(cardMasks[playerIndex]);
+                }
+                deals.add(new Deal(Arrays.asList(hands)));
+                quarantine.accept();
+            }
+        }
+        summaryReporter.accept(quarantine.summary());
+        return Collections.unmodifiableList(deals);
+    }
+}
@@ -0,0 +1,167 @@
+package com.github.grimsa.pokerhands.deal;
+
+import com.github.grimsa.pokerhands.Deal;
+import com.github.grimsa.pokerhands.hand.HandFromBytesFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads two player deals from a memory-mapped file of fixed-width {@code \n} or {@code \r\n} terminated lines,
+ * decoding the cards straight from the mapped bytes.
+ * <p>
+ * A single mapping is limited to 2 GB, so larger files are mapped in consecutive segments, each starting at the first
+ * record not yet read. The returned stream must be closed to release the file.
+ */
+public final class MappedDealFileReader implements Supplier<Stream<Deal>> {
+    private static final int LINE_LENGTH = 29;
+    private static final int SECOND_HAND_OFFSET = 15;
+    private static final int MAX_RECORD_LENGTH = LINE_LENGTH + 2;
+    private static final int MAX_REPORTED_LINE_LENGTH = 100;
+
+    private final Path path;
+    private final long segmentSize;
+    private final HandFromBytesFactory handFactory = new HandFromBytesFactory();
+
+    public MappedDealFileReader(final Path path) {
+        this(path, Integer.MAX_VALUE);
+    }
+
+    public MappedDealFileReader(final Path path, final long segmentSize) {
+        if (segmentSize < MAX_RECORD_LENGTH || segmentSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Segment size must be between " + MAX_RECORD_LENGTH + " and " + Integer.MAX_VALUE + " bytes");
+        }
+
+        this.path = Objects.requireNonNull(path);
+        this.segmentSize = segmentSize;
+    }
+
+    @Override
+    public Stream<Deal> get() {
+        final FileChannel channel;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read file " + path, e);
+        }
+        return StreamSupport.stream(new DealSpliterator(channel), false)
+                .onClose(() -> close(channel));
+    }
+
+    private void close(final FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close file " + path, e);
+        }
+    }
+
+    private final class DealSpliterator extends Spliterators.AbstractSpliterator<Deal> {
+        private final FileChannel channel;
+        private final long fileSize;
+        private MappedByteBuffer segment;
+        private long segmentStart;
+        private int position;
+
+        DealSpliterator(final FileChannel channel) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.channel = channel;
+            this.fileSize = size(channel);
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super Deal> action) {
+            if (segmentStart + position >= fileSize) {
+                return false;
+            }
+
+            if (segment == null || (segment.limit() - position < MAX_RECORD_LENGTH && segmentStart + segment.limit() < fileSize)) {
+                mapSegmentAt(segmentStart + position);
+            }
+            action.accept(readRecord());
+            return true;
+        }
+
+        private Deal readRecord() {
+            if (lineLengthAt(position) != LINE_LENGTH || segment.get(position + SECOND_HAND_OFFSET - 1) != ' ') {
+                throw new IllegalArgumentException("Unsupported deal file format. Offending line: " + lineAt(position));
+            }
+
+            final var deal = new Deal(List.of(
+                    handFactory.apply(segment, position),
+                    handFactory.apply(segment, position + SECOND_HAND_OFFSET)
+            ));
+            position += LINE_LENGTH;
+            skipLineTerminator();
+            return deal;
+        }
+
+        private int lineLengthAt(final int lineStart) {
+            final var end = Math.min(segment.limit(), lineStart + LINE_LENGTH + 1);
+            for (int index = lineStart; index < end; index++) {
+                if (isLineTerminator(segment.get(index))) {
+                    return index - lineStart;
+                }
+            }
+            return end - lineStart;
+        }
+
+        private String lineAt(final int lineStart) {
+            final var end = Math.min(segment.limit(), lineStart + MAX_REPORTED_LINE_LENGTH);
+            var index = lineStart;
+            while (index < end && !isLineTerminator(segment.get(index))) {
+                index++;
+            }
+
+            final var bytes = new byte[index - lineStart];
+            for (int offset = 0; offset < bytes.length; offset++) {
+                bytes[offset] = segment.get(lineStart + offset);
+            }
+            return new String(bytes, StandardCharsets.US_ASCII);
+        }
+
+        private void skipLineTerminator() {
+            if (position < segment.limit() && segment.get(position) == '\r') {
+                position++;
+            }
+            if (position < segment.limit() && segment.get(position) == '\n') {
+                position++;
+            }
+        }
+
+        private boolean isLineTerminator(final byte symbol) {
+            return symbol == '\n' || symbol == '\r';
+        }
+
+        private void mapSegmentAt(final long start) {
+            try {
+                segment = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(segmentSize, fileSize - start));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to map file " + path, e);
+            }
+            segmentStart = start;
+            position = 0;
+        }
+
+        private long size(final FileChannel channel) {
+            try {
+                return channel.size();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read file " + path, e);
+            }
+        }
+    }
+}
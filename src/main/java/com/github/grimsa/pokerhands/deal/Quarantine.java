@@ -0,0 +1,143 @@
+package com.github.grimsa.pokerhands.deal;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.stream.Collectors;
+
+/**
+ * Collects the lines rejected by {@link LenientDealsFactory}, together with their line numbers and reasons.
+ * <p>
+ * Every rejection is counted, but only the first {@code capacity} of them are kept, so a file full of garbage cannot
+ * exhaust the heap. Not thread-safe.
+ */
+public final class Quarantine {
+    private final int capacity;
+    private final List<Rejection> rejections = new ArrayList<>();
+    private final long[] rejectedCounts = new long[Reason.values().length];
+    private long acceptedCount;
+
+    public Quarantine(final int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative, got: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    void accept() {
+        acceptedCount++;
+    }
+
+    void reject(final long lineNumber, final String line, final Reason reason) {
+        rejectedCounts[reason.ordinal()]++;
+        if (rejections.size() < capacity) {
+            rejections.add(new Rejection(lineNumber, line, reason));
+        }
+    }
+
+    /**
+     * The first rejections, in the order of their lines.
+     */
+    public List<Rejection> rejections() {
+        return Collections.unmodifiableList(rejections);
+    }
+
+    public long acceptedCount() {
+        return acceptedCount;
+    }
+
+    public long rejectedCount() {
+        long rejectedCount = 0;
+        for (final long count : rejectedCounts) {
+            rejectedCount += count;
+        }
+        return rejectedCount;
+    }
+
+    public long rejectedCount(final Reason reason) {
+        return rejectedCounts[reason.ordinal()];
+    }
+
+    /**
+     * Summarises the counts, e.g. {@code Accepted 998 lines, rejected 2 (WRONG_LENGTH: 1, MALFORMED_CARD: 1)}.
+     */
+    public String summary() {
+        final var summary = "Accepted " + acceptedCount + " lines, rejected " + rejectedCount();
+        final var countsByReason = new StringJoiner(", ", " (", ")").setEmptyValue("");
+        for (final Reason reason : Reason.values()) {
+            if (rejectedCount(reason) > 0) {
+                countsByReason.add(reason + ": " + rejectedCount(reason));
+            }
+        }
+        return summary + countsByReason;
+    }
+
+    /**
+     * Writes the kept rejections as tab separated line number, reason and line, one rejection per line.
+     */
+    public void writeTo(final Path path) {
+        final var lines = rejections.stream()
+                .map(rejection -> rejection.getLineNumber() + "\t" + rejection.getReason() + "\t" + rejection.getLine())
+                .collect(Collectors.toList());
+        try {
+            Files.write(path, lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to write file " + path, e);
+        }
+    }
+
+    public enum Reason {
+        WRONG_LENGTH("Unsupported deal file format"),
+        MISSING_SEPARATOR("Unsupported deal file format"),
+        MALFORMED_CARD("Expected cards represented by value and suite"),
+        DUPLICATE_CARD("A card cannot be dealt twice");
+
+        private final String description;
+
+        Reason(final String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    public static final class Rejection {
+        private final long lineNumber;
+        private final String line;
+        private final Reason reason;
+
+        Rejection(final long lineNumber, final String line, final Reason reason) {
+            this.lineNumber = lineNumber;
+            this.line = Objects.requireNonNull(line);
+            this.reason = Objects.requireNonNull(reason);
+        }
+
+        /**
+         * The number of the rejected line, starting from 1.
+         */
+        public long getLineNumber() {
+            return lineNumber;
+        }
+
+        public String getLine() {
+            return line;
+        }
+
+        public Reason getReason() {
+            return reason;
+        }
+
+        @Override
+        public String toString() {
+            return "Line " + lineNumber + " " + reason + ": " + line;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.github.grimsa.pokerhands.deal;
+
+import com.github.grimsa.pokerhands.Deal;
+import com.github.grimsa.pokerhands.Hand;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+public final class TwoPlayerDealFromStringFactory implements Function<String, Deal> {
+    private final Function<String, Hand> handFactory;
+
+    public TwoPlayerDealFromStringFactory(final Function<String, Hand> handFactory) {
+        this.handFactory = Objects.requireNonNull(handFactory);
+    }
+
+    @Override
+    public Deal apply(final String lineInDealsFile) {
+        if (lineInDealsFile.length() != 29) {
+            throw new IllegalArgumentException("Unsupported deal file format. Offending line: " + lineInDealsFile);
+        }
+
+        final var firstPlayerHand = lineInDealsFile.substring(0, 14);
+        final var secondPlayerHand = lineInDealsFile.substring(15);
+        return new Deal(List.of(
+                parse(firstPlayerHand),
+                parse(secondPlayerHand)
+        ));
+    }
+
+    private Hand parse(final String cardsAsString) {
+        return handFactory.apply(cardsAsString);
+    }
+}
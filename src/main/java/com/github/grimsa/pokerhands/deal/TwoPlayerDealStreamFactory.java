@@ -0,0 +1,28 @@
+package com.github.grimsa.pokerhands.deal;
+
+import com.github.grimsa.pokerhands.Deal;
+import com.github.grimsa.pokerhands.Hand;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Lazily parses deals line by line, so that no more than a single deal needs to be held in memory at a time.
+ * The returned stream must be closed to release the underlying lines.
+ */
+public final class TwoPlayerDealStreamFactory implements Supplier<Stream<Deal>> {
+    private final Supplier<Stream<String>> dealFileLinesSupplier;
+    private final Function<String, Deal> dealFactory;
+
+    public TwoPlayerDealStreamFactory(final Supplier<Stream<String>> dealFileLinesSupplier, final Function<String, Hand> handFactory) {
+        this.dealFileLinesSupplier = Objects.requireNonNull(dealFileLinesSupplier);
+        this.dealFactory = new TwoPlayerDealFromStringFactory(handFactory);
+    }
+
+    @Override
+    public Stream<Deal> get() {
+        return dealFileLinesSupplier.get().map(dealFactory);
+    }
+}
@@ -0,0 +1,65 @@
+package com.github.grimsa.pokerhands.hand;
+
+import com.github.grimsa.pokerhands.Hand;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Decorates a hand factory with a bounded cache of the hands it created, keyed by the {@link CardMask} of their cards,
+ * so that a hand dealt again is not evaluated again.
+ * <p>
+ * The cache is safe for concurrent use, and counts hits, misses and evictions to tell whether caching pays off on the data
+ * at hand.
+ *
+ * @see DirectMappedCache
+ */
+public final class CachingHandFactory implements Function<Set<Card>, Hand>, LongFunction<Hand> {
+    private final LongFunction<Hand> handFromCardMaskFactory;
+    private final LongUnaryOperator keyFunction;
+    private final DirectMappedCache<Hand> cache;
+
+    public CachingHandFactory(final LongFunction<Hand> handFromCardMaskFactory, final int capacity) {
+        this(handFromCardMaskFactory, LongUnaryOperator.identity(), capacity);
+    }
+
+    private CachingHandFactory(final LongFunction<Hand> handFromCardMaskFactory, final LongUnaryOperator keyFunction, final int capacity) {
+        this.handFromCardMaskFactory = Objects.requireNonNull(handFromCardMaskFactory);
+        this.keyFunction = keyFunction;
+        this.cache = new DirectMappedCache<>(capacity);
+    }
+
+    /**
+     * Creates a factory that shares a cached hand between all card sets that differ only by a permutation of suits, by
+     * evaluating and caching their {@link CardMask#canonical(long)} form. Only suitable for factories whose hands carry no
+     * more than their strength, such as {@link PackedHandFromFiveCardsFactory}.
+     */
+    public static CachingHandFactory keyedBySuitIsomorphism(final LongFunction<Hand> handFromCardMaskFactory, final int capacity) {
+        return new CachingHandFactory(handFromCardMaskFactory, CardMask::canonical, capacity);
+    }
+
+    @Override
+    public Hand apply(final Set<Card> cards) {
+        return apply(CardMask.of(cards));
+    }
+
+    @Override
+    public Hand apply(final long cardMask) {
+        return cache.get(keyFunction.applyAsLong(cardMask), handFromCardMaskFactory);
+    }
+
+    public long hitCount() {
+        return cache.hitCount();
+    }
+
+    public long missCount() {
+        return cache.missCount();
+    }
+
+    public long evictionCount() {
+        return cache.evictionCount();
+    }
+}
@@ -0,0 +1,56 @@
+package com.github.grimsa.pokerhands.hand;
+
+import java.util.Objects;
+import java.util.function.LongFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Decorates a primitive evaluator, such as {@link HandFromSevenCardsFactory#strength(long)}, with a bounded cache of the
+ * strengths it computed, keyed by the {@link CardMask} of the evaluated cards.
+ * <p>
+ * A hit costs no allocation. The cache is safe for concurrent use, and counts hits, misses and evictions.
+ *
+ * @see DirectMappedCache
+ */
+public final class CachingStrengthFunction implements LongToIntFunction {
+    private final LongFunction<Integer> strengthFunction;
+    private final LongUnaryOperator keyFunction;
+    private final DirectMappedCache<Integer> cache;
+
+    public CachingStrengthFunction(final LongToIntFunction strengthFunction, final int capacity) {
+        this(strengthFunction, LongUnaryOperator.identity(), capacity);
+    }
+
+    private CachingStrengthFunction(final LongToIntFunction strengthFunction, final LongUnaryOperator keyFunction, final int capacity) {
+        Objects.requireNonNull(strengthFunction);
+        this.strengthFunction = strengthFunction::applyAsInt;
+        this.keyFunction = keyFunction;
+        this.cache = new DirectMappedCache<>(capacity);
+    }
+
+    /**
+     * Creates a function that shares a cached strength between all card sets that differ only by a permutation of suits,
+     * by evaluating and caching their {@link CardMask#canonical(long)} form.
+     */
+    public static CachingStrengthFunction keyedBySuitIsomorphism(final LongToIntFunction strengthFunction, final int capacity) {
+        return new CachingStrengthFunction(strengthFunction, CardMask::canonical, capacity);
+    }
+
+    @Override
+    public int applyAsInt(final long cardMask) {
+        return cache.get(keyFunction.applyAsLong(cardMask), strengthFunction);
+    }
+
+    public long hitCount() {
+        return cache.hitCount();
+    }
+
+    public long missCount() {
+        return cache.missCount();
+    }
+
+    public long evictionCount() {
+        return cache.evictionCount();
+    }
+}
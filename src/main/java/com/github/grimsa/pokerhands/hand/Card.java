@@ -4,18 +4,35 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static java.util.Comparator.naturalOrder;
 import static java.util.Comparator.reverseOrder;
 
+/**
+ * One of the 52 cards. There is a single canonical instance of every card, obtained through {@link #of(Value, Suit)} or
+ * {@link #ofIndex(int)}.
+ */
 final class Card {
+    static final int COUNT = Value.values().length * Suit.values().length;
+
+    private static final Card[] CARDS = createCards();
+
     private final Value value;
     private final Suit suit;
+    private final int index;
 
-    Card(final Value value, final Suit suit) {
+    private Card(final Value value, final Suit suit) {
         this.value = Objects.requireNonNull(value);
         this.suit = Objects.requireNonNull(suit);
+        this.index = indexOf(value, suit);
+    }
+
+    static Card of(final Value value, final Suit suit) {
+        return CARDS[indexOf(value, suit)];
+    }
+
+    static Card ofIndex(final int index) {
+        return CARDS[Objects.checkIndex(index, COUNT)];
     }
 
     Value getValue() {
@@ -26,24 +43,35 @@ final class Card {
         return suit;
     }
 
+    /**
+     * The position of this card in range {@code [0, 52)}, with the suit in the major and the value in the minor position.
+     */
+    int index() {
+        return index;
+    }
+
     @Override
     public boolean equals(Object other) {
-        if (this == other) {
-            return true;
-        }
-
-        if (other == null || getClass() != other.getClass()) {
-            return false;
-        }
-
-        final var otherCard = (Card) other;
-        return value == otherCard.value
-                && suit == otherCard.suit;
+        return this == other;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(value, suit);
+        return index;
+    }
+
+    private static int indexOf(final Value value, final Suit suit) {
+        return suit.ordinal() * Value.values().length + value.ordinal();
+    }
+
+    private static Card[] createCards() {
+        final var cards = new Card[COUNT];
+        for (final Suit suit : Suit.values()) {
+            for (final Value value : Value.values()) {
+                cards[indexOf(value, suit)] = new Card(value, suit);
+            }
+        }
+        return cards;
     }
 
     enum Value {
@@ -61,6 +89,14 @@ final class Card {
         KING('K'),
         ACE('A');
 
+        private static final Value[] BY_SYMBOL = new Value[128];
+
+        static {
+            for (final Value value : values()) {
+                BY_SYMBOL[value.symbol] = value;
+            }
+        }
+
         private final char symbol;
 
         Value(char symbol) {
@@ -68,10 +104,25 @@ final class Card {
         }
 
         static Value fromSymbol(char symbol) {
-            return Stream.of(values())
-                    .filter(value -> value.symbol == symbol)
-                    .findFirst()
-                    .orElseThrow(() -> new IllegalArgumentException("Unknown symbol: " + symbol));
+            final var value = fromSymbolOrNull(symbol);
+            if (value == null) {
+                throw new IllegalArgumentException("Unknown symbol: " + symbol);
+            }
+            return value;
+        }
+
+        /**
+         * Looks the symbol up without throwing, for parsers that must not use exceptions for control flow.
+         */
+        static Value fromSymbolOrNull(char symbol) {
+            return symbol < BY_SYMBOL.length ? BY_SYMBOL[symbol] : null;
+        }
+
+        /**
+         * Decodes an ASCII symbol, e.g. straight from a byte buffer.
+         */
+        static Value fromSymbol(byte symbol) {
+            return fromSymbol((char) (symbol & 0xFF));
         }
 
         static Value maxIn(final Collection<Value> values) {
@@ -93,6 +144,14 @@ final class Card {
         HEART('H'),
         SPADE('S');
 
+        private static final Suit[] BY_SYMBOL = new Suit[128];
+
+        static {
+            for (final Suit suit : values()) {
+                BY_SYMBOL[suit.symbol] = suit;
+            }
+        }
+
         private final char symbol;
 
         Suit(char symbol) {
@@ -100,10 +159,25 @@ final class Card {
         }
 
         static Suit fromSymbol(char symbol) {
-            return Stream.of(values())
-                    .filter(suit -> suit.symbol == symbol)
-                    .findFirst()
-                    .orElseThrow(() -> new IllegalArgumentException("Unknown symbol: " + symbol));
+            final var suit = fromSymbolOrNull(symbol);
+            if (suit == null) {
+                throw new IllegalArgumentException("Unknown symbol: " + symbol);
+            }
+            return suit;
+        }
+
+        /**
+         * Looks the symbol up without throwing, for parsers that must not use exceptions for control flow.
+         */
+        static Suit fromSymbolOrNull(char symbol) {
+            return symbol < BY_SYMBOL.length ? BY_SYMBOL[symbol] : null;
+        }
+
+        /**
+         * Decodes an ASCII symbol, e.g. straight from a byte buffer.
+         */
+        static Suit fromSymbol(byte symbol) {
+            return fromSymbol((char) (symbol & 0xFF));
         }
     }
 }
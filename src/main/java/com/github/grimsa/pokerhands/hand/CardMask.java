@@ -0,0 +1,233 @@
+package com.github.grimsa.pokerhands.hand;
+
+import com.github.grimsa.pokerhands.hand.Card.Suit;
+import com.github.grimsa.pokerhands.hand.Card.Value;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Primitive representation of a set of cards as a {@code long}, having the bit at {@link Card#index()} set for every card
+ * in the set.
+ * <p>
+ * As cards of the same suit occupy 13 consecutive bits, each suit can be extracted as a mask of values, and the number of
+ * cards held of every value can be worked out with a few bitwise operations over the four suits.
+ */
+public final class CardMask {
+    private static final int VALUE_COUNT = Value.values().length;
+    private static final long VALUES_OF_SUIT = (1L << VALUE_COUNT) - 1;
+
+    /**
+     * Returned by {@link #tryParse(CharSequence, int, int)} for malformed cards. No set of cards has all bits set.
+     */
+    public static final long INVALID = -1L;
+
+    private CardMask() {
+    }
+
+    static long of(final Card card) {
+        return 1L << card.index();
+    }
+
+    static long of(final Collection<Card> cards) {
+        long cardMask = 0;
+        for (final Card card : cards) {
+            cardMask |= of(card);
+        }
+        return cardMask;
+    }
+
+    static Set<Card> toCards(final long cardMask) {
+        final var cards = new Card[size(cardMask)];
+        var remainingCards = cardMask;
+        for (int i = 0; i < cards.length; i++) {
+            cards[i] = Card.ofIndex(Long.numberOfTrailingZeros(remainingCards));
+            remainingCards &= remainingCards - 1;
+        }
+        return Set.of(cards);
+    }
+
+    /**
+     * Parses cards in the {@code "2H 3H 4H 5H 6H"} format.
+     */
+    public static long parse(final CharSequence cards) {
+        return parse(cards, 0, cards.length());
+    }
+
+    /**
+     * Parses cards in the {@code "2H 3H 4H 5H 6H"} format from the given range of characters, without creating
+     * intermediate strings.
+     */
+    public static long parse(final CharSequence cards, final int from, final int to) {
+        final var cardMask = tryParse(cards, from, to);
+        if (cardMask == INVALID) {
+            throw malformedCardIn(cards, from, to);
+        }
+        return cardMask;
+    }
+
+    /**
+     * Finds the first malformed card in cards that failed to parse, reporting the offending card or symbol. Only called
+     * once parsing has failed, so that {@link #tryParse(CharSequence, int, int)} never pays for it.
+     */
+    private static IllegalArgumentException malformedCardIn(final CharSequence cards, final int from, final int to) {
+        var end = to;
+        while (end > from && cards.charAt(end - 1) == ' ') {
+            end--;
+        }
+
+        var cardStart = from;
+        for (int index = from; index <= end; index++) {
+            if (index == end || cards.charAt(index) == ' ') {
+                if (index - cardStart != 2) {
+                    return new IllegalArgumentException("Expected a card representation of value and suite, got: "
+                            + cards.subSequence(cardStart, index));
+                }
+                try {
+                    Value.fromSymbol(cards.charAt(cardStart));
+                    Suit.fromSymbol(cards.charAt(cardStart + 1));
+                } catch (IllegalArgumentException e) {
+                    return e;
+                }
+                cardStart = index + 1;
+            }
+        }
+        return new IllegalArgumentException("Expected cards represented by value and suite, got: " + cards.subSequence(from, to));
+    }
+
+    /**
+     * Parses cards like {@link #parse(CharSequence, int, int)}, but returns {@link #INVALID} instead of throwing when
+     * the cards are malformed, so that malformed input costs no more than well-formed input.
+     */
+    public static long tryParse(final CharSequence cards, final int from, final int to) {
+        var end = to;
+        while (end > from && cards.charAt(end - 1) == ' ') {
+            end--;
+        }
+
+        long cardMask = 0;
+        var cardStart = from;
+        for (int index = from; index <= end; index++) {
+            if (index == end || cards.charAt(index) == ' ') {
+                final var card = tryParseCard(cards, cardStart, index);
+                if (card == INVALID) {
+                    return INVALID;
+                }
+                cardMask |= card;
+                cardStart = index + 1;
+            }
+        }
+        return cardMask;
+    }
+
+    public static int size(final long cardMask) {
+        return Long.bitCount(cardMask);
+    }
+
+    /**
+     * Maps cards to a canonical representative of all card sets that differ only by a permutation of suits, which have
+     * equal strength as only flushes depend on suits, and a flush remains a flush in any suit. The values held in every
+     * suit are sorted in descending order and reassigned to the suits in {@link Suit} order, so the canonical form has
+     * at most 134,459 distinct five card hands out of 2,598,960, making caches and tables keyed by it much smaller.
+     */
+    public static long canonical(final long cardMask) {
+        var first = valuesOf(cardMask, Suit.CLUB);
+        var second = valuesOf(cardMask, Suit.DIAMOND);
+        var third = valuesOf(cardMask, Suit.HEART);
+        var fourth = valuesOf(cardMask, Suit.SPADE);
+
+        if (first < second) {
+            final var swap = first;
+            first = second;
+            second = swap;
+        }
+        if (third < fourth) {
+            final var swap = third;
+            third = fourth;
+            fourth = swap;
+        }
+        if (first < third) {
+            final var swap = first;
+            first = third;
+            third = swap;
+        }
+        if (second < fourth) {
+            final var swap = second;
+            second = fourth;
+            fourth = swap;
+        }
+        if (second < third) {
+            final var swap = second;
+            second = third;
+            third = swap;
+        }
+
+        return first | (long) second << VALUE_COUNT | (long) third << 2 * VALUE_COUNT | (long) fourth << 3 * VALUE_COUNT;
+    }
+
+    /**
+     * The values held in the given suit, as a bitmask indexed by {@link Value#ordinal()}.
+     */
+    static int valuesOf(final long cardMask, final Suit suit) {
+        return (int) (cardMask >>> (suit.ordinal() * VALUE_COUNT) & VALUES_OF_SUIT);
+    }
+
+    /**
+     * The distinct values held in any suit, as a bitmask indexed by {@link Value#ordinal()}.
+     */
+    static int values(final long cardMask) {
+        return valuesHeldAtLeast(cardMask, 1);
+    }
+
+    /**
+     * The values of which at least the given number of cards is held, as a bitmask indexed by {@link Value#ordinal()}.
+     */
+    static int valuesHeldAtLeast(final long cardMask, final int count) {
+        final var clubs = valuesOf(cardMask, Suit.CLUB);
+        final var diamonds = valuesOf(cardMask, Suit.DIAMOND);
+        final var hearts = valuesOf(cardMask, Suit.HEART);
+        final var spades = valuesOf(cardMask, Suit.SPADE);
+        switch (count) {
+            case 1:
+                return clubs | diamonds | hearts | spades;
+            case 2:
+                return (clubs & (diamonds | hearts | spades)) | (diamonds & (hearts | spades)) | (hearts & spades);
+            case 3:
+                return (clubs & diamonds & (hearts | spades)) | ((clubs | diamonds) & hearts & spades);
+            case 4:
+                return clubs & diamonds & hearts & spades;
+            default:
+                throw new IllegalArgumentException("Count must be between 1 and 4, got: " + count);
+        }
+    }
+
+    static boolean isSingleSuit(final long cardMask) {
+        for (final Suit suit : Suit.values()) {
+            final var valuesOfSuit = valuesOf(cardMask, suit);
+            if (valuesOfSuit != 0) {
+                return Long.bitCount(valuesOfSuit) == size(cardMask);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tells whether the given values form a run of five consecutive values.
+     */
+    static boolean isStraight(final int values) {
+        return values >>> Integer.numberOfTrailingZeros(values) == 0b11111;
+    }
+
+    private static long tryParseCard(final CharSequence cards, final int from, final int to) {
+        if (to - from != 2) {
+            return INVALID;
+        }
+
+        final var value = Value.fromSymbolOrNull(cards.charAt(from));
+        final var suit = Suit.fromSymbolOrNull(cards.charAt(from + 1));
+        if (value == null || suit == null) {
+            return INVALID;
+        }
+        return of(Card.of(value, suit));
+    }
+}
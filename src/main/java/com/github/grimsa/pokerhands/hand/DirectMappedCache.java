@@ -0,0 +1,80 @@
+package com.github.grimsa.pokerhands.hand;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+
+/**
+ * A bounded cache of values keyed by a {@link CardMask}, in which every key maps to a single slot, so that a lookup is a
+ * single array read and a miss evicts whatever occupied the slot.
+ * <p>
+ * Slots hold immutable entries and are read and written atomically, so concurrent lookups never see a torn entry. Two
+ * threads missing the same key may both compute its value, which is harmless for pure functions.
+ */
+final class DirectMappedCache<V> {
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final AtomicReferenceArray<Entry<V>> slots;
+    private final int indexShift;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a cache holding at most the given number of entries, rounded up to a power of two.
+     */
+    DirectMappedCache(final int capacity) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY + ", got: " + capacity);
+        }
+        final var indexBits = Integer.SIZE - Integer.numberOfLeadingZeros(capacity - 1);
+        this.slots = new AtomicReferenceArray<>(1 << indexBits);
+        this.indexShift = Long.SIZE - indexBits;
+    }
+
+    V get(final long key, final LongFunction<V> valueFunction) {
+        final var index = indexOf(key);
+        final var entry = slots.get(index);
+        if (entry != null && entry.key == key) {
+            hits.increment();
+            return entry.value;
+        }
+
+        misses.increment();
+        final var value = valueFunction.apply(key);
+        if (slots.getAndSet(index, new Entry<>(key, value)) != null) {
+            evictions.increment();
+        }
+        return value;
+    }
+
+    int capacity() {
+        return slots.length();
+    }
+
+    long hitCount() {
+        return hits.sum();
+    }
+
+    long missCount() {
+        return misses.sum();
+    }
+
+    long evictionCount() {
+        return evictions.sum();
+    }
+
+    private int indexOf(final long key) {
+        return indexShift == Long.SIZE ? 0 : (int) (key * 0x9E3779B97F4A7C15L >>> indexShift);
+    }
+
+    private static final class Entry<V> {
+        private final long key;
+        private final V value;
+
+        Entry(final long key, final V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.github.grimsa.pokerhands.hand;
+
+/**
+ * The share of pots every player is expected to win, given as the fraction of boards on which they win outright, tie,
+ * and their equity counting every split pot as a fraction of a win.
+ */
+public final class Equity {
+    private final long boardCount;
+    private final long[] winCounts;
+    private final long[] tieCounts;
+    private final double[] equities;
+    private final long elapsedNanos;
+
+    Equity(final long boardCount, final long[] winCounts, final long[] tieCounts, final double[] equities, final long elapsedNanos) {
+        this.boardCount = boardCount;
+        this.winCounts = winCounts;
+        this.tieCounts = tieCounts;
+        this.equities = equities;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long boardCount() {
+        return boardCount;
+    }
+
+    public int playerCount() {
+        return winCounts.length;
+    }
+
+    public double winProbabilityOf(final int playerIndex) {
+        return (double) winCounts[playerIndex] / boardCount;
+    }
+
+    public double tieProbabilityOf(final int playerIndex) {
+        return (double) tieCounts[playerIndex] / boardCount;
+    }
+
+    public double equityOf(final int playerIndex) {
+        return equities[playerIndex];
+    }
+
+    /**
+     * The number of seven card hands evaluated per second of wall-clock time.
+     */
+    public double handsPerSecond() {
+        return boardCount * (double) playerCount() * 1e9 / Math.max(1, elapsedNanos);
+    }
+}
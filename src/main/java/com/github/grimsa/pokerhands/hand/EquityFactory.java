@@ -0,0 +1,257 @@
+package com.github.grimsa.pokerhands.hand;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Works out the {@link Equity} of Texas Hold'em players from their hole cards and a partially dealt board, with the
+ * remaining cards unknown.
+ * <p>
+ * The board can either be completed in every possible way, or sampled randomly when there are too many ways. Either way
+ * the work is split into tasks run in parallel in the given pool, each with its own counters and random number generator,
+ * and hands are evaluated by {@link HandFromSevenCardsFactory} without allocating.
+ */
+public final class EquityFactory {
+    private static final int BOARD_SIZE = 5;
+    private static final int HOLE_CARD_COUNT = 2;
+    private static final int MAX_PLAYER_COUNT = 10;
+    private static final long DECK = (1L << Card.COUNT) - 1;
+    private static final int EXHAUSTIVE_TASK_SIZE = 1;
+    private static final long MONTE_CARLO_TASK_SIZE = 10_000;
+
+    /**
+     * A multiple of every possible number of players sharing a pot, so that shares of split pots can be counted exactly.
+     */
+    private static final long SHARE_UNIT = 2520;
+
+    private final ForkJoinPool pool;
+
+    public EquityFactory(final ForkJoinPool pool) {
+        this.pool = Objects.requireNonNull(pool);
+    }
+
+    /**
+     * Completes the board with every possible combination of the remaining cards.
+     */
+    public Equity exhaustive(final long[] holeCards, final long board) {
+        final var remainingCards = remainingCards(holeCards, board);
+        final var missingBoardCards = BOARD_SIZE - CardMask.size(board);
+        final var startNanos = System.nanoTime();
+        final var tally = pool.invoke(new ExhaustiveTask(holeCards.clone(), board, remainingCards, missingBoardCards, 0, remainingCards.length));
+        return tally.toEquity(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Completes the board with the given number of random combinations of the remaining cards.
+     */
+    public Equity monteCarlo(final long[] holeCards, final long board, final long sampleCount, final long seed) {
+        if (sampleCount < 1) {
+            throw new IllegalArgumentException("Sample count must be positive, got: " + sampleCount);
+        }
+
+        final var remainingCards = remainingCards(holeCards, board);
+        final var missingBoardCards = BOARD_SIZE - CardMask.size(board);
+        final var startNanos = System.nanoTime();
+        final var tally = pool.invoke(new MonteCarloTask(holeCards.clone(), board, remainingCards, missingBoardCards, sampleCount, new SplittableRandom(seed)));
+        return tally.toEquity(System.nanoTime() - startNanos);
+    }
+
+    private static int[] remainingCards(final long[] holeCards, final long board) {
+        if (holeCards.length < 2 || holeCards.length > MAX_PLAYER_COUNT) {
+            throw new IllegalArgumentException("Expected between 2 and " + MAX_PLAYER_COUNT + " players, got: " + holeCards.length);
+        }
+        if (CardMask.size(board) > BOARD_SIZE || (board & ~DECK) != 0) {
+            throw new IllegalArgumentException("A board must comprise at most " + BOARD_SIZE + " cards.");
+        }
+
+        var dealtCards = board;
+        for (final long playerHoleCards : holeCards) {
+            if (CardMask.size(playerHoleCards) != HOLE_CARD_COUNT || (playerHoleCards & ~DECK) != 0) {
+                throw new IllegalArgumentException("Every player must hold " + HOLE_CARD_COUNT + " hole cards.");
+            }
+            if ((dealtCards & playerHoleCards) != 0) {
+                throw new IllegalArgumentException("A card cannot be dealt twice.");
+            }
+            dealtCards |= playerHoleCards;
+        }
+
+        final var remainingCardMask = DECK & ~dealtCards;
+        final var remainingCards = new int[CardMask.size(remainingCardMask)];
+        var cardMask = remainingCardMask;
+        for (int i = 0; i < remainingCards.length; i++) {
+            remainingCards[i] = Long.numberOfTrailingZeros(cardMask);
+            cardMask &= cardMask - 1;
+        }
+        return remainingCards;
+    }
+
+    /**
+     * Counters of a single task, merged into the final result as tasks are joined.
+     */
+    private static final class Tally {
+        private final long[] holeCards;
+        private final long[] winCounts;
+        private final long[] tieCounts;
+        private final long[] shares;
+        private long boardCount;
+
+        Tally(final long[] holeCards) {
+            this.holeCards = holeCards;
+            this.winCounts = new long[holeCards.length];
+            this.tieCounts = new long[holeCards.length];
+            this.shares = new long[holeCards.length];
+        }
+
+        void add(final long board) {
+            var bestStrength = Integer.MIN_VALUE;
+            var winners = 0;
+            for (int playerIndex = 0; playerIndex < holeCards.length; playerIndex++) {
+                final var strength = HandFromSevenCardsFactory.strength(holeCards[playerIndex] | board);
+                if (strength > bestStrength) {
+                    bestStrength = strength;
+                    winners = 1 << playerIndex;
+                } else if (strength == bestStrength) {
+                    winners |= 1 << playerIndex;
+                }
+            }
+
+            final var winnerCount = Integer.bitCount(winners);
+            final var outcomeCounts = winnerCount == 1 ? winCounts : tieCounts;
+            for (var remainingWinners = winners; remainingWinners != 0; remainingWinners &= remainingWinners - 1) {
+                final var playerIndex = Integer.numberOfTrailingZeros(remainingWinners);
+                outcomeCounts[playerIndex]++;
+                shares[playerIndex] += SHARE_UNIT / winnerCount;
+            }
+            boardCount++;
+        }
+
+        Tally merge(final Tally other) {
+            for (int playerIndex = 0; playerIndex < holeCards.length; playerIndex++) {
+                winCounts[playerIndex] += other.winCounts[playerIndex];
+                tieCounts[playerIndex] += other.tieCounts[playerIndex];
+                shares[playerIndex] += other.shares[playerIndex];
+            }
+            boardCount += other.boardCount;
+            return this;
+        }
+
+        Equity toEquity(final long elapsedNanos) {
+            final var equities = Arrays.stream(shares)
+                    .mapToDouble(share -> (double) share / SHARE_UNIT / boardCount)
+                    .toArray();
+            return new Equity(boardCount, winCounts, tieCounts, equities, elapsedNanos);
+        }
+    }
+
+    /**
+     * Enumerates all boards whose lowest missing card is at a position in the given range of remaining cards.
+     */
+    private static final class ExhaustiveTask extends RecursiveTask<Tally> {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] holeCards;
+        private final long board;
+        private final int[] remainingCards;
+        private final int missingBoardCards;
+        private final int from;
+        private final int to;
+
+        ExhaustiveTask(final long[] holeCards, final long board, final int[] remainingCards, final int missingBoardCards, final int from, final int to) {
+            this.holeCards = holeCards;
+            this.board = board;
+            this.remainingCards = remainingCards;
+            this.missingBoardCards = missingBoardCards;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Tally compute() {
+            final var tally = new Tally(holeCards);
+            if (missingBoardCards == 0) {
+                tally.add(board);
+                return tally;
+            }
+
+            if (to - from <= EXHAUSTIVE_TASK_SIZE) {
+                for (int position = from; position < to; position++) {
+                    completeBoard(tally, board | 1L << remainingCards[position], position + 1, missingBoardCards - 1);
+                }
+                return tally;
+            }
+
+            final var middle = (from + to) >>> 1;
+            final var secondHalf = new ExhaustiveTask(holeCards, board, remainingCards, missingBoardCards, middle, to);
+            secondHalf.fork();
+            return new ExhaustiveTask(holeCards, board, remainingCards, missingBoardCards, from, middle).compute()
+                    .merge(secondHalf.join());
+        }
+
+        private void completeBoard(final Tally tally, final long partialBoard, final int fromPosition, final int missingCards) {
+            if (missingCards == 0) {
+                tally.add(partialBoard);
+                return;
+            }
+
+            for (int position = fromPosition; position <= remainingCards.length - missingCards; position++) {
+                completeBoard(tally, partialBoard | 1L << remainingCards[position], position + 1, missingCards - 1);
+            }
+        }
+    }
+
+    /**
+     * Samples random boards, splitting the samples between subtasks that get random number generators of their own.
+     */
+    private static final class MonteCarloTask extends RecursiveTask<Tally> {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] holeCards;
+        private final long board;
+        private final int[] remainingCards;
+        private final int missingBoardCards;
+        private final long sampleCount;
+        private final SplittableRandom random;
+
+        MonteCarloTask(final long[] holeCards, final long board, final int[] remainingCards, final int missingBoardCards, final long sampleCount, final SplittableRandom random) {
+            this.holeCards = holeCards;
+            this.board = board;
+            this.remainingCards = remainingCards;
+            this.missingBoardCards = missingBoardCards;
+            this.sampleCount = sampleCount;
+            this.random = random;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (sampleCount <= MONTE_CARLO_TASK_SIZE) {
+                return sample();
+            }
+
+            final var firstHalfSampleCount = sampleCount / 2;
+            final var secondHalf = new MonteCarloTask(holeCards, board, remainingCards, missingBoardCards, sampleCount - firstHalfSampleCount, random.split());
+            secondHalf.fork();
+            return new MonteCarloTask(holeCards, board, remainingCards, missingBoardCards, firstHalfSampleCount, random).compute()
+                    .merge(secondHalf.join());
+        }
+
+        private Tally sample() {
+            final var tally = new Tally(holeCards);
+            final var deck = remainingCards.clone();
+            for (long sample = 0; sample < sampleCount; sample++) {
+                var sampledBoard = board;
+                for (int dealt = 0; dealt < missingBoardCards; dealt++) {
+                    final var pick = dealt + random.nextInt(deck.length - dealt);
+                    final var card = deck[pick];
+                    deck[pick] = deck[dealt];
+                    deck[dealt] = card;
+                    sampledBoard |= 1L << card;
+                }
+                tally.add(sampledBoard);
+            }
+            return tally;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.github.grimsa.pokerhands.hand;
+
+import com.github.grimsa.pokerhands.Hand;
+import com.github.grimsa.pokerhands.hand.Card.Suit;
+import com.github.grimsa.pokerhands.hand.Card.Value;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.function.LongFunction;
+
+/**
+ * Parses a hand straight from ASCII bytes in the {@code "2H 3H 4H 5H 6H"} format into a {@link CardMask}, without
+ * creating any intermediate strings or card sets.
+ */
+public final class HandFromBytesFactory {
+    public static final int HAND_LENGTH = 14;
+
+    private final LongFunction<Hand> handFromCardMaskFactory;
+
+    public HandFromBytesFactory() {
+        this(new PackedHandFromFiveCardsFactory());
+    }
+
+    public HandFromBytesFactory(final LongFunction<Hand> handFromCardMaskFactory) {
+        this.handFromCardMaskFactory = Objects.requireNonNull(handFromCardMaskFactory);
+    }
+
+    public Hand apply(final ByteBuffer buffer, final int offset) {
+        for (int separator = offset + 2; separator < offset + HAND_LENGTH; separator += 3) {
+            if (buffer.get(separator) != ' ') {
+                throw new IllegalArgumentException("Expected cards separated by spaces at offset " + offset);
+            }
+        }
+
+        final var cardMask = parseCard(buffer, offset)
+                | parseCard(buffer, offset + 3)
+                | parseCard(buffer, offset + 6)
+                | parseCard(buffer, offset + 9)
+                | parseCard(buffer, offset + 12);
+        return handFromCardMaskFactory.apply(cardMask);
+    }
+
+    private long parseCard(final ByteBuffer buffer, final int offset) {
+        return CardMask.of(Card.of(
+                Value.fromSymbol(buffer.get(offset)),
+                Suit.fromSymbol(buffer.get(offset + 1))
+        ));
+    }
+}
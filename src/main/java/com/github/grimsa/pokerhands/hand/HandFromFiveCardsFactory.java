@@ -1,294 +1,191 @@
 package com.github.grimsa.pokerhands.hand;
 
 import com.github.grimsa.pokerhands.Hand;
+import com.github.grimsa.pokerhands.Rank;
 import com.github.grimsa.pokerhands.hand.Card.Value;
 
 import java.util.*;
-import java.util.Map.Entry;
 import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.function.LongFunction;
 
-import static com.github.grimsa.generic.Comparators.comparingListElements;
-import static com.github.grimsa.pokerhands.hand.HandFromFiveCardsFactory.BaseHand.Rank.*;
+import static com.github.grimsa.pokerhands.Rank.*;
 
-public final class HandFromFiveCardsFactory implements Function<Set<Card>, Hand> {
+public final class HandFromFiveCardsFactory implements Function<Set<Card>, Hand>, LongFunction<Hand> {
     @Override
     public Hand apply(final Set<Card> cards) {
-        if (cards.size() != 5) {
+        return apply(CardMask.of(cards));
+    }
+
+    @Override
+    public Hand apply(final long cardMask) {
+        if (CardMask.size(cardMask) != 5) {
             throw new IllegalArgumentException("A hand must comprise five cards.");
         }
 
-        final var allOfSameSuit = cards.stream().map(Card::getSuit).distinct().count() == 1;
-        final var countsByValue = cards.stream().collect(Collectors.groupingBy(Card::getValue, () -> new EnumMap<>(Value.class), Collectors.counting()));
-        final var distinctValuesOrderedByCardCountDesc = distinctValuesOrderedByCardCountDesc(countsByValue);
+        final var allOfSameSuit = CardMask.isSingleSuit(cardMask);
+        final var values = CardMask.values(cardMask);
+        final var distinctValuesOrderedByCardCountDesc = distinctValuesOrderedByCardCountDesc(cardMask);
 
-        if (allOfSameSuit && isStraight(countsByValue)) {
-            return new StraightFlush(countsByValue.keySet());
-        } else if (isFourOfAKind(countsByValue)) {
+        if (allOfSameSuit && isStraight(values)) {
+            return new StraightFlush(valueSet(values));
+        } else if (isFourOfAKind(cardMask)) {
             return new FourOfAKind(distinctValuesOrderedByCardCountDesc);
-        } else if (isFullHouse(countsByValue)) {
+        } else if (isFullHouse(cardMask, values)) {
             return new FullHouse(distinctValuesOrderedByCardCountDesc);
         } else if (allOfSameSuit) {
-            return new Flush(countsByValue.keySet());
-        } else if (isStraight(countsByValue)) {
-            return new Straight(countsByValue.keySet());
-        } else if (isThreeOfAKind(countsByValue)) {
+            return new Flush(valueSet(values));
+        } else if (isStraight(values)) {
+            return new Straight(valueSet(values));
+        } else if (isThreeOfAKind(cardMask, values)) {
             return new ThreeOfAKind(distinctValuesOrderedByCardCountDesc);
-        } else if (isTwoPairs(countsByValue)) {
+        } else if (isTwoPairs(values)) {
             return new TwoPairs(distinctValuesOrderedByCardCountDesc);
-        } else if (isOnePair(countsByValue)) {
+        } else if (isOnePair(values)) {
             return new OnePair(distinctValuesOrderedByCardCountDesc);
         } else {
-            return new HighCard(countsByValue.keySet());
+            return new HighCard(valueSet(values));
         }
     }
 
-    private List<Value> distinctValuesOrderedByCardCountDesc(final Map<Value, Long> countsByValue) {
-        return countsByValue.entrySet().stream()
-                .sorted(Entry.comparingByValue(Comparator.reverseOrder()))
-                .map(Entry::getKey)
-                .collect(Collectors.toUnmodifiableList());
+    private List<Value> distinctValuesOrderedByCardCountDesc(final long cardMask) {
+        final var distinctValues = new ArrayList<Value>(5);
+        var heldMoreTimes = 0;
+        for (int count = 4; count > 0; count--) {
+            final var heldAtLeast = CardMask.valuesHeldAtLeast(cardMask, count);
+            addDescending(heldAtLeast & ~heldMoreTimes, distinctValues);
+            heldMoreTimes = heldAtLeast;
+        }
+        return Collections.unmodifiableList(distinctValues);
     }
 
-    private boolean isFourOfAKind(final Map<Value, Long> countsByValue) {
-        return countsByValue.size() == 2
-                && countsByValue.containsValue(4L);
+    private void addDescending(final int values, final Collection<Value> target) {
+        for (int value = Integer.SIZE - 1 - Integer.numberOfLeadingZeros(values); value >= 0; value--) {
+            if ((values & 1 << value) != 0) {
+                target.add(Value.values()[value]);
+            }
+        }
     }
 
-    private boolean isFullHouse(final Map<Value, Long> countsByValue) {
-        return countsByValue.size() == 2
-                && countsByValue.containsValue(3L)
-                && countsByValue.containsValue(2L);
+    private Set<Value> valueSet(final int values) {
+        final var valueSet = EnumSet.noneOf(Value.class);
+        addDescending(values, valueSet);
+        return valueSet;
     }
 
-    private boolean isStraight(final Map<Value, Long> countsByValue) {
-        final var minValue = Value.minIn(countsByValue.keySet());
-        final var maxValue = Value.maxIn(countsByValue.keySet());
-        return countsByValue.size() == 5
-                && EnumSet.range(minValue, maxValue).size() == 5;
+    private boolean isFourOfAKind(final long cardMask) {
+        return CardMask.valuesHeldAtLeast(cardMask, 4) != 0;
     }
 
-    private boolean isThreeOfAKind(final Map<Value, Long> countsByValue) {
-        return countsByValue.size() == 3
-                && countsByValue.containsValue(3L);
+    private boolean isFullHouse(final long cardMask, final int values) {
+        return Integer.bitCount(values) == 2
+                && CardMask.valuesHeldAtLeast(cardMask, 3) != 0;
     }
 
-    private boolean isTwoPairs(final Map<Value, Long> countsByValue) {
-        return countsByValue.size() == 3
-                && countsByValue.values().stream().filter(count -> count.equals(2L)).count() == 2;
+    private boolean isStraight(final int values) {
+        return Integer.bitCount(values) == 5
+                && CardMask.isStraight(values);
     }
 
-    private boolean isOnePair(final Map<Value, Long> countsByValue) {
-        return countsByValue.size() == 4;
+    private boolean isThreeOfAKind(final long cardMask, final int values) {
+        return Integer.bitCount(values) == 3
+                && CardMask.valuesHeldAtLeast(cardMask, 3) != 0;
     }
 
-    static abstract class BaseHand implements Hand {
-        abstract Rank getRank();
-
-        Comparator<Hand> comparingRank() {
-            return Comparator.comparing(hand -> ((BaseHand) hand).getRank());
-        }
+    private boolean isTwoPairs(final int values) {
+        return Integer.bitCount(values) == 3;
+    }
 
-        enum Rank {
-            HIGH_CARD,
-            ONE_PAIR,
-            TWO_PAIRS,
-            THREE_OF_A_KIND,
-            STRAIGHT,
-            FLUSH,
-            FULL_HOUSE,
-            FOUR_OF_A_KIND,
-            STRAIGHT_FLUSH;
-        }
+    private boolean isOnePair(final int values) {
+        return Integer.bitCount(values) == 4;
     }
 
-    private static class StraightFlush extends Straight {
-        StraightFlush(final Set<Value> values) {
-            super(values);
-        }
+    /**
+     * A hand holding a single {@code int} key computed at construction, packing the rank above
+     * {@link Rank#STRENGTH_SHIFT} and the tie-breaking values below it as 4-bit nibbles in order of significance, so that
+     * comparing two hands is a single integer comparison. The key equals the strength computed by
+     * {@link PackedHandFromFiveCardsFactory} for the same cards.
+     */
+    static abstract class BaseHand implements Hand {
+        private final int strength;
 
-        @Override
-        public Rank getRank() {
-            return STRAIGHT_FLUSH;
+        BaseHand(final Rank rank, final List<Value> tieBreakingValues) {
+            var key = 0;
+            for (final Value value : tieBreakingValues) {
+                key = key << 4 | value.ordinal();
+            }
+            strength = rank.ordinal() << Rank.STRENGTH_SHIFT | key;
         }
-    }
 
-    private static class FourOfAKind extends BaseHand {
-        private final Value four;
-        private final Value kicker;
-
-        FourOfAKind(final List<Value> distinctValuesOrderedByCardCountDesc) {
-            four = distinctValuesOrderedByCardCountDesc.get(0);
-            kicker = distinctValuesOrderedByCardCountDesc.get(1);
+        int strength() {
+            return strength;
         }
 
         @Override
         public Rank getRank() {
-            return FOUR_OF_A_KIND;
+            return Rank.ofStrength(strength);
         }
 
         @Override
-        public int compareTo(Hand other) {
-            return comparingRank()
-                    .thenComparing(hand -> ((FourOfAKind) hand).four)
-                    .thenComparing(hand -> ((FourOfAKind) hand).kicker)
-                    .compare(this, other);
+        public int compareTo(final Hand other) {
+            return Integer.compare(strength, ((BaseHand) other).strength);
         }
     }
 
-    private static class FullHouse extends BaseHand {
-        private final Value three;
-        private final Value two;
-
-        FullHouse(final List<Value> distinctValuesOrderedByCardCountDesc) {
-            three = distinctValuesOrderedByCardCountDesc.get(0);
-            two = distinctValuesOrderedByCardCountDesc.get(1);
+    private static class StraightFlush extends Straight {
+        StraightFlush(final Set<Value> values) {
+            super(STRAIGHT_FLUSH, values);
         }
+    }
 
-        @Override
-        public Rank getRank() {
-            return FULL_HOUSE;
+    private static class FourOfAKind extends BaseHand {
+        FourOfAKind(final List<Value> distinctValuesOrderedByCardCountDesc) {
+            super(FOUR_OF_A_KIND, distinctValuesOrderedByCardCountDesc);
         }
+    }
 
-        @Override
-        public int compareTo(Hand other) {
-            return comparingRank()
-                    .thenComparing(hand -> ((FullHouse) hand).three)
-                    .thenComparing(hand -> ((FullHouse) hand).two)
-                    .compare(this, other);
+    private static class FullHouse extends BaseHand {
+        FullHouse(final List<Value> distinctValuesOrderedByCardCountDesc) {
+            super(FULL_HOUSE, distinctValuesOrderedByCardCountDesc);
         }
     }
 
     private static class Flush extends BaseHand {
-        private final List<Value> valuesDesc;
-
         Flush(final Set<Value> values) {
-            valuesDesc = Value.sortedDescending(values);
-        }
-
-        @Override
-        public Rank getRank() {
-            return FLUSH;
-        }
-
-        @Override
-        public int compareTo(Hand other) {
-            return comparingRank()
-                    .thenComparing(hand -> ((Flush) hand).valuesDesc, comparingListElements(5))
-                    .compare(this, other);
+            super(FLUSH, Value.sortedDescending(values));
         }
     }
 
     private static class Straight extends BaseHand {
-        private final Value highest;
-
         Straight(final Set<Value> values) {
-            highest = Value.maxIn(values);
-        }
-
-        @Override
-        public Rank getRank() {
-            return STRAIGHT;
+            this(STRAIGHT, values);
         }
 
-        @Override
-        public int compareTo(Hand other) {
-            return comparingRank()
-                    .thenComparing(hand -> ((Straight) hand).highest)
-                    .compare(this, other);
+        Straight(final Rank rank, final Set<Value> values) {
+            super(rank, Value.sortedDescending(values));
         }
     }
 
     private static class ThreeOfAKind extends BaseHand {
-        private final Value three;
-        private final List<Value> kickersDesc;
-
         ThreeOfAKind(final List<Value> distinctValuesOrderedByCardCountDesc) {
-            three = distinctValuesOrderedByCardCountDesc.get(0);
-            kickersDesc = Value.sortedDescending(distinctValuesOrderedByCardCountDesc.subList(1, 3));
-        }
-
-        @Override
-        public Rank getRank() {
-            return THREE_OF_A_KIND;
-        }
-
-        @Override
-        public int compareTo(Hand other) {
-            return comparingRank()
-                    .thenComparing(hand -> ((ThreeOfAKind) hand).three)
-                    .thenComparing(hand -> ((ThreeOfAKind) hand).kickersDesc, comparingListElements(2))
-                    .compare(this, other);
+            super(THREE_OF_A_KIND, distinctValuesOrderedByCardCountDesc);
         }
     }
 
     private static class TwoPairs extends BaseHand {
-        private final Value higherPair;
-        private final Value lowerPair;
-        private final Value kicker;
-
         TwoPairs(final List<Value> distinctValuesOrderedByCardCountDesc) {
-            final var pairValues = distinctValuesOrderedByCardCountDesc.subList(0, 2);
-            higherPair = Value.maxIn(pairValues);
-            lowerPair = Value.minIn(pairValues);
-            kicker = distinctValuesOrderedByCardCountDesc.get(2);
-        }
-
-        @Override
-        public Rank getRank() {
-            return TWO_PAIRS;
-        }
-
-        @Override
-        public int compareTo(Hand other) {
-            return comparingRank()
-                    .thenComparing(hand -> ((TwoPairs) hand).higherPair)
-                    .thenComparing(hand -> ((TwoPairs) hand).lowerPair)
-                    .thenComparing(hand -> ((TwoPairs) hand).kicker)
-                    .compare(this, other);
+            super(TWO_PAIRS, distinctValuesOrderedByCardCountDesc);
         }
     }
 
     private static class OnePair extends BaseHand {
-        private final Value pair;
-        private final List<Value> kickersDesc;
-
         OnePair(final List<Value> distinctValuesOrderedByCardCountDesc) {
-            pair = distinctValuesOrderedByCardCountDesc.get(0);
-            kickersDesc = Value.sortedDescending(distinctValuesOrderedByCardCountDesc.subList(1, 4));
-        }
-
-        @Override
-        public Rank getRank() {
-            return ONE_PAIR;
-        }
-
-        @Override
-        public int compareTo(Hand other) {
-            return comparingRank()
-                    .thenComparing(hand -> ((OnePair) hand).pair)
-                    .thenComparing(hand -> ((OnePair) hand).kickersDesc, comparingListElements(3))
-                    .compare(this, other);
+            super(ONE_PAIR, distinctValuesOrderedByCardCountDesc);
         }
     }
 
     private static class HighCard extends BaseHand {
-        private final List<Value> valuesDesc;
-
         HighCard(final Set<Value> values) {
-            valuesDesc = Value.sortedDescending(values);
-        }
-
-        @Override
-        public Rank getRank() {
-            return HIGH_CARD;
-        }
-
-        @Override
-        public int compareTo(Hand other) {
-            return comparingRank()
-                    .thenComparing(hand -> ((HighCard) hand).valuesDesc, comparingListElements(5))
-                    .compare(this, other);
+            super(HIGH_CARD, Value.sortedDescending(values));
         }
     }
 }
@@ -0,0 +1,143 @@
+package com.github.grimsa.pokerhands.hand;
+
+import com.github.grimsa.pokerhands.Hand;
+import com.github.grimsa.pokerhands.Rank;
+import com.github.grimsa.pokerhands.hand.Card.Suit;
+import com.github.grimsa.pokerhands.hand.PackedHandFromFiveCardsFactory.PackedHand;
+
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+import static com.github.grimsa.pokerhands.Rank.*;
+import static com.github.grimsa.pokerhands.hand.PackedHandFromFiveCardsFactory.RANK_SHIFT;
+import static com.github.grimsa.pokerhands.hand.PackedHandFromFiveCardsFactory.appendDescending;
+
+/**
+ * Evaluates the best five card hand out of seven cards, e.g. two hole cards and five board cards in Texas Hold'em.
+ * <p>
+ * Rather than evaluating all 21 five card combinations, the best combination is read off the counts of values and suits
+ * directly. The resulting strength is the one {@link PackedHandFromFiveCardsFactory} gives to that best combination, so
+ * hands from both factories can be compared with each other.
+ */
+public final class HandFromSevenCardsFactory implements Function<Set<Card>, Hand>, LongFunction<Hand> {
+    private static final int NO_STRAIGHT = -1;
+
+    @Override
+    public Hand apply(final Set<Card> cards) {
+        return apply(CardMask.of(cards));
+    }
+
+    @Override
+    public Hand apply(final long cardMask) {
+        if (CardMask.size(cardMask) != 7) {
+            throw new IllegalArgumentException("A hand must comprise seven cards.");
+        }
+
+        return new PackedHand(strength(cardMask));
+    }
+
+    /**
+     * Evaluates the best five card hand out of five to seven cards given as a {@link CardMask} without allocating.
+     */
+    static int strength(final long cardMask) {
+        final var clubs = CardMask.valuesOf(cardMask, Suit.CLUB);
+        final var diamonds = CardMask.valuesOf(cardMask, Suit.DIAMOND);
+        final var hearts = CardMask.valuesOf(cardMask, Suit.HEART);
+        final var spades = CardMask.valuesOf(cardMask, Suit.SPADE);
+        final var values = clubs | diamonds | hearts | spades;
+        final var heldTwice = (clubs & (diamonds | hearts | spades)) | (diamonds & (hearts | spades)) | (hearts & spades);
+        final var heldThrice = (clubs & diamonds & (hearts | spades)) | ((clubs | diamonds) & hearts & spades);
+        final var fours = clubs & diamonds & hearts & spades;
+        final var flushValues = flushValues(clubs, diamonds, hearts, spades);
+
+        if (flushValues != 0) {
+            final var highestStraightFlushValue = highestStraightValue(flushValues);
+            if (highestStraightFlushValue != NO_STRAIGHT) {
+                return strength(STRAIGHT_FLUSH, appendDescending(0, straightValues(highestStraightFlushValue)));
+            }
+        }
+
+        if (fours != 0) {
+            final var four = highest(fours);
+            return strength(FOUR_OF_A_KIND, appendDescending(appendDescending(0, four), highest(values & ~four)));
+        }
+
+        final var threes = heldThrice & ~fours;
+        if (threes != 0 && Integer.bitCount(heldTwice) >= 2) {
+            final var three = highest(threes);
+            return strength(FULL_HOUSE, appendDescending(appendDescending(0, three), highest(heldTwice & ~three)));
+        }
+
+        if (flushValues != 0) {
+            return strength(FLUSH, appendDescending(0, highest(flushValues, 5)));
+        }
+
+        final var highestStraightValue = highestStraightValue(values);
+        if (highestStraightValue != NO_STRAIGHT) {
+            return strength(STRAIGHT, appendDescending(0, straightValues(highestStraightValue)));
+        }
+
+        if (threes != 0) {
+            final var three = highest(threes);
+            return strength(THREE_OF_A_KIND, appendDescending(appendDescending(0, three), highest(values & ~three, 2)));
+        }
+
+        final var pairs = heldTwice;
+        if (Integer.bitCount(pairs) >= 2) {
+            final var twoHighestPairs = highest(pairs, 2);
+            return strength(TWO_PAIRS, appendDescending(appendDescending(0, twoHighestPairs), highest(values & ~twoHighestPairs)));
+        }
+
+        if (pairs != 0) {
+            return strength(ONE_PAIR, appendDescending(appendDescending(0, pairs), highest(values & ~pairs, 3)));
+        }
+
+        return strength(HIGH_CARD, appendDescending(0, highest(values, 5)));
+    }
+
+    private static int strength(final Rank rank, final int tieBreak) {
+        return rank.ordinal() << RANK_SHIFT | tieBreak;
+    }
+
+    private static int flushValues(final int clubs, final int diamonds, final int hearts, final int spades) {
+        if (Integer.bitCount(clubs) >= 5) {
+            return clubs;
+        } else if (Integer.bitCount(diamonds) >= 5) {
+            return diamonds;
+        } else if (Integer.bitCount(hearts) >= 5) {
+            return hearts;
+        } else if (Integer.bitCount(spades) >= 5) {
+            return spades;
+        }
+        return 0;
+    }
+
+    private static int highestStraightValue(final int values) {
+        for (int highestValue = Integer.SIZE - 1 - Integer.numberOfLeadingZeros(values); highestValue >= 4; highestValue--) {
+            if ((values & straightValues(highestValue)) == straightValues(highestValue)) {
+                return highestValue;
+            }
+        }
+        return NO_STRAIGHT;
+    }
+
+    private static int straightValues(final int highestValue) {
+        return 0b11111 << (highestValue - 4);
+    }
+
+    private static int highest(final int values) {
+        return Integer.highestOneBit(values);
+    }
+
+    private static int highest(final int values, final int count) {
+        var remainingValues = values;
+        var highestValues = 0;
+        for (int i = 0; i < count && remainingValues != 0; i++) {
+            final var highestValue = Integer.highestOneBit(remainingValues);
+            highestValues |= highestValue;
+            remainingValues &= ~highestValue;
+        }
+        return highestValues;
+    }
+}
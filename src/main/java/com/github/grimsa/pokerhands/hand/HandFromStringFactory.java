@@ -1,38 +1,33 @@
 package com.github.grimsa.pokerhands.hand;
 
 import com.github.grimsa.pokerhands.Hand;
-import com.github.grimsa.pokerhands.hand.Card.Suit;
-import com.github.grimsa.pokerhands.hand.Card.Value;
 
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.function.LongFunction;
 
 public final class HandFromStringFactory implements Function<String, Hand> {
-    private final Function<Set<Card>, Hand> handFromCardsFactory;
+    private final LongFunction<Hand> handFromCardMaskFactory;
 
     public HandFromStringFactory(final Function<Set<Card>, Hand> handFromCardsFactory) {
-        this.handFromCardsFactory = Objects.requireNonNull(handFromCardsFactory);
+        Objects.requireNonNull(handFromCardsFactory);
+        this.handFromCardMaskFactory = cardMask -> handFromCardsFactory.apply(CardMask.toCards(cardMask));
     }
 
-    @Override
-    public Hand apply(String handAsString) {
-        final var cards = Stream.of(handAsString.split(" "))
-                .map(this::parseCard)
-                .collect(Collectors.toUnmodifiableSet());
-        return handFromCardsFactory.apply(cards);
+    private HandFromStringFactory(final LongFunction<Hand> handFromCardMaskFactory) {
+        this.handFromCardMaskFactory = Objects.requireNonNull(handFromCardMaskFactory);
     }
 
-    private Card parseCard(final String cardString) {
-        if (cardString == null || cardString.length() != 2) {
-            throw new IllegalArgumentException("Expected a card representation of value and suite, got: " + cardString);
-        }
+    /**
+     * Creates a factory that passes parsed cards on as a {@link CardMask}, skipping the creation of a {@code Set<Card>}.
+     */
+    public static HandFromStringFactory fromCardMasks(final LongFunction<Hand> handFromCardMaskFactory) {
+        return new HandFromStringFactory(handFromCardMaskFactory);
+    }
 
-        return new Card(
-                Value.fromSymbol(cardString.charAt(0)),
-                Suit.fromSymbol(cardString.charAt(1))
-        );
+    @Override
+    public Hand apply(String handAsString) {
+        return handFromCardMaskFactory.apply(CardMask.parse(handAsString));
     }
 }
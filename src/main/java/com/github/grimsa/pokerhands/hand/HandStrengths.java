@@ -0,0 +1,52 @@
+package com.github.grimsa.pokerhands.hand;
+
+import com.github.grimsa.pokerhands.Rank;
+
+/**
+ * Evaluates hands in batches, from an array of {@link CardMask}s into an array of {@code int} strengths, without a virtual
+ * call or an allocation per hand.
+ * <p>
+ * A stronger hand has a greater strength, hands of equal strength are equal, and {@link Rank#ofStrength(int)} tells the
+ * rank of a strength. The loops are plain counted loops over primitive arrays, which the JIT can unroll and keep in
+ * registers.
+ */
+public final class HandStrengths {
+    private HandStrengths() {
+    }
+
+    /**
+     * Evaluates hands of five cards each.
+     */
+    public static void ofFiveCards(final long[] cardMasks, final int[] strengths) {
+        checkLengths(cardMasks, strengths);
+        for (int hand = 0; hand < cardMasks.length; hand++) {
+            checkCardCount(cardMasks[hand], 5, 5);
+            strengths[hand] = TableHandFromFiveCardsFactory.strength(cardMasks[hand]);
+        }
+    }
+
+    /**
+     * Evaluates the best five card hand out of five to seven cards each.
+     */
+    public static void ofSevenCards(final long[] cardMasks, final int[] strengths) {
+        checkLengths(cardMasks, strengths);
+        for (int hand = 0; hand < cardMasks.length; hand++) {
+            checkCardCount(cardMasks[hand], 5, 7);
+            strengths[hand] = HandFromSevenCardsFactory.strength(cardMasks[hand]);
+        }
+    }
+
+    private static void checkCardCount(final long cardMask, final int minCardCount, final int maxCardCount) {
+        final var cardCount = CardMask.size(cardMask);
+        if (cardCount < minCardCount || cardCount > maxCardCount || (cardMask & ~((1L << Card.COUNT) - 1)) != 0) {
+            final var expectedCardCount = minCardCount == maxCardCount ? String.valueOf(minCardCount) : minCardCount + " to " + maxCardCount;
+            throw new IllegalArgumentException("Expected a card mask of " + expectedCardCount + " cards, got: 0x" + Long.toHexString(cardMask));
+        }
+    }
+
+    private static void checkLengths(final long[] cardMasks, final int[] strengths) {
+        if (strengths.length < cardMasks.length) {
+            throw new IllegalArgumentException("Expected room for " + cardMasks.length + " strengths, got: " + strengths.length);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.github.grimsa.pokerhands.hand;
+
+import com.github.grimsa.pokerhands.Hand;
+import com.github.grimsa.pokerhands.Rank;
+
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+import static com.github.grimsa.pokerhands.Rank.*;
+
+/**
+ * Evaluates five cards into a single {@code int} strength, so that comparing two hands is a single integer comparison.
+ * <p>
+ * The rank occupies the bits above {@link #RANK_SHIFT}, and the tie-breaking card values are packed below it as 4-bit
+ * nibbles, ordered by card count and then by value, both descending. This yields exactly the same ordering as the
+ * {@code compareTo} implementations of the hands produced by {@link HandFromFiveCardsFactory}.
+ */
+public final class PackedHandFromFiveCardsFactory implements Function<Set<Card>, Hand>, LongFunction<Hand> {
+    static final int RANK_SHIFT = Rank.STRENGTH_SHIFT;
+
+    @Override
+    public Hand apply(final Set<Card> cards) {
+        return apply(CardMask.of(cards));
+    }
+
+    @Override
+    public Hand apply(final long cardMask) {
+        if (CardMask.size(cardMask) != 5) {
+            throw new IllegalArgumentException("A hand must comprise five cards.");
+        }
+
+        return new PackedHand(strength(cardMask));
+    }
+
+    /**
+     * Evaluates five distinct cards given by their {@link Card#index()} without allocating.
+     */
+    static int strength(final int card0, final int card1, final int card2, final int card3, final int card4) {
+        return strength(1L << card0 | 1L << card1 | 1L << card2 | 1L << card3 | 1L << card4);
+    }
+
+    /**
+     * Evaluates five cards given as a {@link CardMask} without allocating.
+     */
+    static int strength(final long cardMask) {
+        final var allOfSameSuit = CardMask.isSingleSuit(cardMask);
+        final var values = CardMask.values(cardMask);
+        final var heldTwice = CardMask.valuesHeldAtLeast(cardMask, 2);
+        final var heldThrice = CardMask.valuesHeldAtLeast(cardMask, 3);
+        final var four = CardMask.valuesHeldAtLeast(cardMask, 4);
+        final var three = heldThrice & ~four;
+        final var pairs = heldTwice & ~heldThrice;
+        final var singles = values & ~heldTwice;
+
+        final Rank rank;
+        final var isStraight = Integer.bitCount(singles) == 5 && CardMask.isStraight(singles);
+        if (allOfSameSuit && isStraight) {
+            rank = STRAIGHT_FLUSH;
+        } else if (four != 0) {
+            rank = FOUR_OF_A_KIND;
+        } else if (three != 0 && pairs != 0) {
+            rank = FULL_HOUSE;
+        } else if (allOfSameSuit) {
+            rank = FLUSH;
+        } else if (isStraight) {
+            rank = STRAIGHT;
+        } else if (three != 0) {
+            rank = THREE_OF_A_KIND;
+        } else if (Integer.bitCount(pairs) == 2) {
+            rank = TWO_PAIRS;
+        } else if (pairs != 0) {
+            rank = ONE_PAIR;
+        } else {
+            rank = HIGH_CARD;
+        }
+
+        var tieBreak = appendDescending(0, four);
+        tieBreak = appendDescending(tieBreak, three);
+        tieBreak = appendDescending(tieBreak, pairs);
+        tieBreak = appendDescending(tieBreak, singles);
+        return rank.ordinal() << RANK_SHIFT | tieBreak;
+    }
+
+    /**
+     * Appends the given values to the tie-break as nibbles, from the highest value to the lowest.
+     */
+    static int appendDescending(final int tieBreak, final int values) {
+        var result = tieBreak;
+        var remainingValues = values;
+        while (remainingValues != 0) {
+            final var highestValue = Integer.SIZE - 1 - Integer.numberOfLeadingZeros(remainingValues);
+            result = result << 4 | highestValue;
+            remainingValues &= ~(1 << highestValue);
+        }
+        return result;
+    }
+
+    static final class PackedHand implements Hand {
+        private final int strength;
+
+        PackedHand(final int strength) {
+            this.strength = strength;
+        }
+
+        int strength() {
+            return strength;
+        }
+
+        @Override
+        public Rank getRank() {
+            return Rank.ofStrength(strength);
+        }
+
+        @Override
+        public int compareTo(final Hand other) {
+            return Integer.compare(strength, ((PackedHand) other).strength);
+        }
+    }
+}
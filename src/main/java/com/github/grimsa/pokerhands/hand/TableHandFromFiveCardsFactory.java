@@ -0,0 +1,152 @@
+package com.github.grimsa.pokerhands.hand;
+
+import com.github.grimsa.pokerhands.Hand;
+import com.github.grimsa.pokerhands.hand.PackedHandFromFiveCardsFactory.PackedHand;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+/**
+ * Evaluates five cards by table lookup, in the style of Cactus Kev's evaluator.
+ * <p>
+ * Every card is encoded as {@code xxxbbbbb bbbbbbbb ssss0000 pppppppp}, where {@code b} is a bit for the value,
+ * {@code s} is a bit for the suit and {@code p} is a distinct prime for the value. A flush is then resolved by one lookup
+ * indexed by the value bits, five distinct values by another, and any hand with repeated values by looking up the product
+ * of the primes, which is unique for every multiset of values.
+ * <p>
+ * The tables are generated from {@link PackedHandFromFiveCardsFactory} on first use and hold the same strengths, so hands
+ * produced by both factories can be compared with each other. They take about 100 KiB of heap.
+ */
+public final class TableHandFromFiveCardsFactory implements Function<Set<Card>, Hand>, LongFunction<Hand> {
+    private static final int[] PRIMES = {2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37, 41};
+
+    @Override
+    public Hand apply(final Set<Card> cards) {
+        return apply(CardMask.of(cards));
+    }
+
+    @Override
+    public Hand apply(final long cardMask) {
+        if (CardMask.size(cardMask) != 5) {
+            throw new IllegalArgumentException("A hand must comprise five cards.");
+        }
+
+        return new PackedHand(strength(cardMask));
+    }
+
+    /**
+     * Evaluates five cards given as a {@link CardMask} without allocating.
+     */
+    static int strength(final long cardMask) {
+        final var card0 = Long.numberOfTrailingZeros(cardMask);
+        final var card1 = Long.numberOfTrailingZeros(cardMask & -2L << card0);
+        final var card2 = Long.numberOfTrailingZeros(cardMask & -2L << card1);
+        final var card3 = Long.numberOfTrailingZeros(cardMask & -2L << card2);
+        final var card4 = Long.numberOfTrailingZeros(cardMask & -2L << card3);
+        return strength(card0, card1, card2, card3, card4);
+    }
+
+    /**
+     * Evaluates five distinct cards given by their {@link Card#index()} without allocating.
+     */
+    static int strength(final int card0, final int card1, final int card2, final int card3, final int card4) {
+        final var codes = Tables.CARD_CODES;
+        final var code0 = codes[card0];
+        final var code1 = codes[card1];
+        final var code2 = codes[card2];
+        final var code3 = codes[card3];
+        final var code4 = codes[card4];
+
+        final var valueBits = (code0 | code1 | code2 | code3 | code4) >>> 16;
+        if ((code0 & code1 & code2 & code3 & code4 & 0xF000) != 0) {
+            return Tables.FLUSHES[valueBits];
+        }
+
+        final var distinctValues = Tables.DISTINCT_VALUES[valueBits];
+        if (distinctValues != 0) {
+            return distinctValues;
+        }
+
+        final var primeProduct = (code0 & 0xFF) * (code1 & 0xFF) * (code2 & 0xFF) * (code3 & 0xFF) * (code4 & 0xFF);
+        return Tables.REPEATED_VALUES[Arrays.binarySearch(Tables.PRIME_PRODUCTS, primeProduct)];
+    }
+
+    private static final class Tables {
+        private static final int VALUE_COUNT = Card.Value.values().length;
+
+        static final int[] CARD_CODES = new int[Card.COUNT];
+        static final int[] FLUSHES = new int[1 << VALUE_COUNT];
+        static final int[] DISTINCT_VALUES = new int[1 << VALUE_COUNT];
+        static final int[] PRIME_PRODUCTS;
+        static final int[] REPEATED_VALUES;
+
+        static {
+            for (int index = 0; index < Card.COUNT; index++) {
+                final var card = Card.ofIndex(index);
+                final var value = card.getValue().ordinal();
+                CARD_CODES[index] = 1 << (16 + value) | 1 << (12 + card.getSuit().ordinal()) | PRIMES[value];
+            }
+
+            final var repeatedValueHands = new int[2][6188];
+            int repeatedValueHandCount = 0;
+            for (int v0 = 0; v0 < VALUE_COUNT; v0++) {
+                for (int v1 = v0; v1 < VALUE_COUNT; v1++) {
+                    for (int v2 = v1; v2 < VALUE_COUNT; v2++) {
+                        for (int v3 = v2; v3 < VALUE_COUNT; v3++) {
+                            for (int v4 = v3; v4 < VALUE_COUNT; v4++) {
+                                if (v0 == v4) {
+                                    continue;
+                                }
+
+                                final var values = new int[]{v0, v1, v2, v3, v4};
+                                if (v0 < v1 && v1 < v2 && v2 < v3 && v3 < v4) {
+                                    final var valueBits = 1 << v0 | 1 << v1 | 1 << v2 | 1 << v3 | 1 << v4;
+                                    FLUSHES[valueBits] = strengthOf(values, new int[]{0, 0, 0, 0, 0});
+                                    DISTINCT_VALUES[valueBits] = strengthOf(values, new int[]{0, 0, 0, 0, 1});
+                                } else {
+                                    repeatedValueHands[0][repeatedValueHandCount] = PRIMES[v0] * PRIMES[v1] * PRIMES[v2] * PRIMES[v3] * PRIMES[v4];
+                                    repeatedValueHands[1][repeatedValueHandCount] = strengthOf(values, suitsForRepeatedValues(values));
+                                    repeatedValueHandCount++;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+
+            final var order = new Integer[repeatedValueHandCount];
+            Arrays.setAll(order, index -> index);
+            Arrays.sort(order, (first, second) -> Integer.compare(repeatedValueHands[0][first], repeatedValueHands[0][second]));
+            PRIME_PRODUCTS = new int[repeatedValueHandCount];
+            REPEATED_VALUES = new int[repeatedValueHandCount];
+            for (int i = 0; i < repeatedValueHandCount; i++) {
+                PRIME_PRODUCTS[i] = repeatedValueHands[0][order[i]];
+                REPEATED_VALUES[i] = repeatedValueHands[1][order[i]];
+            }
+        }
+
+        private static int[] suitsForRepeatedValues(final int[] sortedValues) {
+            final var suits = new int[5];
+            for (int i = 1; i < 5; i++) {
+                suits[i] = sortedValues[i] == sortedValues[i - 1] ? suits[i - 1] + 1 : 0;
+            }
+            return suits;
+        }
+
+        private static int strengthOf(final int[] values, final int[] suits) {
+            return PackedHandFromFiveCardsFactory.strength(
+                    card(values[0], suits[0]),
+                    card(values[1], suits[1]),
+                    card(values[2], suits[2]),
+                    card(values[3], suits[3]),
+                    card(values[4], suits[4])
+            );
+        }
+
+        private static int card(final int value, final int suit) {
+            return Card.of(Card.Value.values()[value], Card.Suit.values()[suit]).index();
+        }
+    }
+}
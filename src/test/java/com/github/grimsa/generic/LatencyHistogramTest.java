@@ -0,0 +1,53 @@
+package com.github.grimsa.generic;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class LatencyHistogramTest {
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    void valueAtPercentile_smallValues_exact() {
+        for (int value = 1; value <= 50; value++) {
+            histogram.record(value);
+        }
+
+        assertEquals(50, histogram.count());
+        assertEquals(25, histogram.valueAtPercentile(50));
+        assertEquals(50, histogram.valueAtPercentile(100));
+        assertEquals(1, histogram.valueAtPercentile(0));
+    }
+
+    @Test
+    void valueAtPercentile_largeValues_withinRelativeError() {
+        for (long value = 1_000; value <= 1_000_000; value += 1_000) {
+            histogram.record(value);
+        }
+
+        final var median = histogram.valueAtPercentile(50);
+        final var p99 = histogram.valueAtPercentile(99);
+        assertTrue(Math.abs(median - 500_000) <= 500_000 * 0.032, "Median: " + median);
+        assertTrue(Math.abs(p99 - 990_000) <= 990_000 * 0.032, "99th percentile: " + p99);
+        assertEquals(1_000_000, histogram.max());
+    }
+
+    @Test
+    void record_largestValue_counted() {
+        histogram.record(Long.MAX_VALUE);
+
+        assertEquals(Long.MAX_VALUE, histogram.valueAtPercentile(100));
+    }
+
+    @Test
+    void valueAtPercentile_nothingRecorded_zero() {
+        assertEquals(0, histogram.valueAtPercentile(99));
+    }
+
+    @Test
+    void record_negativeValue_throws() {
+        assertThrows(IllegalArgumentException.class, () -> histogram.record(-1));
+    }
+}
@@ -0,0 +1,36 @@
+package com.github.grimsa.generic;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+
+/**
+ * A directory created before every test and deleted with all its content after it. It stands in for {@code @TempDir},
+ * which only arrived in JUnit 5.4, and is registered as a non-private field annotated with {@code @RegisterExtension}.
+ */
+public final class TemporaryDirectory implements BeforeEachCallback, AfterEachCallback {
+    private Path path;
+
+    @Override
+    public void beforeEach(final ExtensionContext context) throws IOException {
+        path = Files.createTempDirectory("poker-hands");
+    }
+
+    @Override
+    public void afterEach(final ExtensionContext context) throws IOException {
+        try (var paths = Files.walk(path)) {
+            for (final Path file : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    public Path resolve(final String other) {
+        return path.resolve(other);
+    }
+}
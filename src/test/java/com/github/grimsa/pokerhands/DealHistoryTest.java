@@ -6,6 +6,10 @@ import com.github.grimsa.pokerhands.hand.HandFromFiveCardsFactory;
 import com.github.grimsa.pokerhands.hand.HandFromStringFactory;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 final class DealHistoryTest {
@@ -22,4 +26,36 @@ final class DealHistoryTest {
         assertEquals(376, dealHistory.countWinsOfPlayer(0));
         assertEquals(624, dealHistory.countWinsOfPlayer(1));
     }
+
+    @Test
+    void countWinsOfAllPlayers_projectEulerDatasetInChunks_sameResultsAsSequential() {
+        final var dealHistory = projectEulerDealHistory();
+        final var pool = new ForkJoinPool(4);
+
+        assertEquals(376, dealHistory.countWinsOfPlayer(0, pool, 64));
+        assertArrayEquals(new int[]{376, 624}, dealHistory.countWinsOfAllPlayers(pool, 64));
+        assertArrayEquals(new int[]{376, 624}, dealHistory.countWinsOfAllPlayers(pool, 1000));
+        pool.shutdown();
+    }
+
+    @Test
+    void tally_projectEulerDataset_correctResults() {
+        final var tally = projectEulerDealHistory().tally();
+
+        assertEquals(1000, tally.dealCount());
+        assertEquals(376, tally.winsOf(0));
+        assertEquals(624, tally.lossesOf(0));
+        assertEquals(624, tally.winsOf(1));
+        assertEquals(0, tally.tiesOf(1));
+        assertEquals(1000, Stream.of(Rank.values()).mapToLong(tally::winsWith).sum());
+    }
+
+    private static DealHistory projectEulerDealHistory() {
+        return new DealHistory(
+                new TwoPlayerDealsFactory(
+                        new ClasspathFile("p054_poker.txt"),
+                        new HandFromStringFactory(new HandFromFiveCardsFactory())
+                )
+        );
+    }
 }
@@ -0,0 +1,116 @@
+package com.github.grimsa.pokerhands;
+
+import com.github.grimsa.generic.ClasspathFile;
+import com.github.grimsa.pokerhands.deal.CardMasksFromStringFactory;
+import com.github.grimsa.pokerhands.hand.PackedHandFromFiveCardsFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class DealPipelineTest {
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final DealPipeline pipeline = new DealPipeline(
+            new CardMasksFromStringFactory(2), new PackedHandFromFiveCardsFactory(), executor, 16, 4, 2, 300
+    );
+
+    @AfterEach
+    void shutDownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void process_projectEulerDataset_snapshotsPublishedIncrementally() throws Exception {
+        final var snapshots = collect(pipeline.process(pipeline.linesOf(new ClasspathFile("p054_poker.txt")::lines)));
+
+        assertEquals(List.of(300L, 600L, 900L, 1000L), snapshots.stream().map(DealTally::dealCount).collect(Collectors.toList()));
+        final var finalTally = snapshots.get(snapshots.size() - 1);
+        assertEquals(376, finalTally.winsOf(0));
+        assertEquals(624, finalTally.winsOf(1));
+    }
+
+    @Test
+    void process_malformedLine_failed() {
+        final var lines = pipeline.linesOf(() -> Stream.of("5H 5C 6S 7S KD 2C 3S 8S 8D TD", "5H 5C 6S 7S KD"));
+
+        final var exception = assertThrows(ExecutionException.class, () -> collect(pipeline.process(lines)));
+        assertTrue(exception.getCause() instanceof IllegalArgumentException);
+    }
+
+    @Test
+    void process_lateAndSlowSubscriber_noSnapshotLostAndNothingReadBeforeSubscribing() throws Exception {
+        final var linesRead = new AtomicBoolean();
+        final var lines = pipeline.linesOf(() -> {
+            linesRead.set(true);
+            return new ClasspathFile("p054_poker.txt").lines();
+        });
+        final var slowPipeline = new DealPipeline(new CardMasksFromStringFactory(2), new PackedHandFromFiveCardsFactory(), executor, 4, 2, 2, 10);
+
+        final var tallies = slowPipeline.process(lines);
+        Thread.sleep(200);
+        assertFalse(linesRead.get());
+        final var snapshots = collect(tallies, 1);
+
+        assertEquals(100, snapshots.size());
+        assertEquals(1000, snapshots.get(snapshots.size() - 1).dealCount());
+        assertEquals(376, snapshots.get(snapshots.size() - 1).winsOf(0));
+    }
+
+    private static List<DealTally> collect(final Flow.Publisher<DealTally> tallies) throws Exception {
+        return collect(tallies, 0);
+    }
+
+    /**
+     * Collects the snapshots requesting them one at a time, taking the given time to handle every snapshot.
+     */
+    private static List<DealTally> collect(final Flow.Publisher<DealTally> tallies, final long millisPerSnapshot) throws Exception {
+        final var snapshots = new CopyOnWriteArrayList<DealTally>();
+        final var completion = new CompletableFuture<List<DealTally>>();
+        tallies.subscribe(new Flow.Subscriber<>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(final Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(final DealTally snapshot) {
+                snapshots.add(snapshot);
+                try {
+                    Thread.sleep(millisPerSnapshot);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(final Throwable throwable) {
+                completion.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                completion.complete(snapshots);
+            }
+        });
+        return completion.get(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,132 @@
+package com.github.grimsa.pokerhands;
+
+import com.github.grimsa.pokerhands.deal.CardMasksFromStringFactory;
+import com.github.grimsa.pokerhands.hand.HandStrengths;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class DealServerTest {
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final CardMasksFromStringFactory cardMasksFactory = new CardMasksFromStringFactory(2);
+
+    @AfterEach
+    void shutDownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void serve_lines_answeredInOrder() throws IOException {
+        try (var server = new DealServer(0, cardMasksFactory, HandStrengths::ofFiveCards, executor, 16, 64);
+             var socket = new Socket(InetAddress.getLoopbackAddress(), server.port());
+             var reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII))) {
+            socket.getOutputStream().write((
+                    "5H 5C 6S 7S KD 2C 3S 8S 8D TD\n"
+                            + "5D 8C 9S JS AC 2C 5C 7D 8S QH\n"
+                            + "2C 3C 4C 5C 7D 2D 3D 4D 5D 7H\n"
+                            + "5D 8C 9S JS AC\n"
+            ).getBytes(StandardCharsets.US_ASCII));
+
+            assertEquals(List.of("2", "1", "TIE 1 2"), List.of(reader.readLine(), reader.readLine(), reader.readLine()));
+            assertTrue(reader.readLine().startsWith("ERROR Unsupported deal file format"));
+        }
+    }
+
+    @Test
+    void serve_concurrentConnections_allAnswered() throws Exception {
+        try (var server = new DealServer(0, cardMasksFactory, HandStrengths::ofFiveCards, executor, 4, 4)) {
+            final var clients = Executors.newFixedThreadPool(8);
+            final var answers = clients.invokeAll(Collections.nCopies(8, () -> {
+                try (var socket = new Socket(InetAddress.getLoopbackAddress(), server.port());
+                     var reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII))) {
+                    socket.getOutputStream().write("5H 5C 6S 7S KD 2C 3S 8S 8D TD\n".repeat(100).getBytes(StandardCharsets.US_ASCII));
+                    var player2Wins = 0;
+                    for (int line = 0; line < 100; line++) {
+                        if ("2".equals(reader.readLine())) {
+                            player2Wins++;
+                        }
+                    }
+                    return player2Wins;
+                }
+            }));
+            clients.shutdown();
+
+            for (final var answer : answers) {
+                assertEquals(100, answer.get());
+            }
+        }
+    }
+
+    @Test
+    void serve_linesWaitingWhileEvaluating_handsOfSeveralDealsEvaluatedTogether() throws IOException {
+        final var handCountsOfBatches = new CopyOnWriteArrayList<Integer>();
+        final var firstBatchEvaluating = new CountDownLatch(1);
+        final var remainingLinesWritten = new CountDownLatch(1);
+        final BiConsumer<long[], int[]> evaluator = (cardMasks, strengths) -> {
+            handCountsOfBatches.add(cardMasks.length);
+            firstBatchEvaluating.countDown();
+            awaitUninterruptibly(remainingLinesWritten);
+            HandStrengths.ofFiveCards(cardMasks, strengths);
+        };
+        try (var server = new DealServer(0, cardMasksFactory, evaluator, executor, 16, 64);
+             var socket = new Socket(InetAddress.getLoopbackAddress(), server.port());
+             var reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII))) {
+            final var line = "5D 8C 9S JS AC 2C 5C 7D 8S QH\n";
+            socket.getOutputStream().write(line.getBytes(StandardCharsets.US_ASCII));
+            awaitUninterruptibly(firstBatchEvaluating);
+            socket.getOutputStream().write(line.repeat(31).getBytes(StandardCharsets.US_ASCII));
+            remainingLinesWritten.countDown();
+
+            for (int answer = 0; answer < 32; answer++) {
+                assertEquals("1", reader.readLine());
+            }
+        }
+        assertEquals(List.of(2, 2 * 16), handCountsOfBatches.subList(0, 2));
+    }
+
+    private static void awaitUninterruptibly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void serve_executorRejectingConnection_connectionClosed() throws IOException {
+        final var singleThreadExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new SynchronousQueue<>());
+        try (var server = new DealServer(0, cardMasksFactory, HandStrengths::ofFiveCards, singleThreadExecutor, 16, 64);
+             var socket = new Socket(InetAddress.getLoopbackAddress(), server.port());
+             var reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII))) {
+            assertNull(reader.readLine());
+        } finally {
+            singleThreadExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    void constructor_batchLargerThanDealsInFlight_throws() {
+        assertThrows(IllegalArgumentException.class, () -> new DealServer(0, cardMasksFactory, HandStrengths::ofFiveCards, executor, 8, 4));
+    }
+}
@@ -0,0 +1,105 @@
+package com.github.grimsa.pokerhands;
+
+import com.github.grimsa.pokerhands.hand.HandFromFiveCardsFactory;
+import com.github.grimsa.pokerhands.hand.HandFromStringFactory;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+final class DealTallyTest {
+    private final HandFromStringFactory handFromStringFactory = new HandFromStringFactory(new HandFromFiveCardsFactory());
+
+    @Test
+    void add_singleBestHand_winForBestAndLossesForOthers() {
+        final var tally = new DealTally();
+
+        tally.add(deal("2C 3C AC 8C 9D", "6C 6D QC JC TC", "AD KD 5S 4H 3S"));
+
+        assertEquals(1, tally.dealCount());
+        assertEquals(3, tally.playerCount());
+        assertEquals(List.of(0L, 1L, 0L), List.of(tally.winsOf(0), tally.winsOf(1), tally.winsOf(2)));
+        assertEquals(List.of(1L, 0L, 1L), List.of(tally.lossesOf(0), tally.lossesOf(1), tally.lossesOf(2)));
+        assertEquals(1, tally.winsWith(Rank.ONE_PAIR));
+    }
+
+    @Test
+    void add_splitPot_tiesForBestHandsAndLossesForOthers() {
+        final var tally = new DealTally();
+
+        tally.add(deal("2C 3C 4C 5C 7D", "KC KD 2H 3H 4S", "KH KS 2D 3D 4H"));
+
+        assertEquals(List.of(0L, 0L, 0L), List.of(tally.winsOf(0), tally.winsOf(1), tally.winsOf(2)));
+        assertEquals(List.of(0L, 1L, 1L), List.of(tally.tiesOf(0), tally.tiesOf(1), tally.tiesOf(2)));
+        assertEquals(1, tally.lossesOf(0));
+        assertEquals(1, tally.winsWith(Rank.ONE_PAIR));
+    }
+
+    @Test
+    void merge_twoTallies_countsSummed() {
+        final var first = new DealTally();
+        first.add(deal("2C 3C AC 8C 9D", "6C 6D QC JC TC"));
+        final var second = new DealTally();
+        second.add(deal("2C 2D 2H 8C 8D", "6C 6D QC JC TC"));
+        second.add(deal("2C 3C 4C 5C 7D", "2D 3D 4D 5D 7H"));
+
+        final var merged = first.merge(second);
+
+        assertEquals(3, merged.dealCount());
+        assertEquals(1, merged.winsOf(0));
+        assertEquals(1, merged.winsOf(1));
+        assertEquals(1, merged.tiesOf(0));
+        assertEquals(1, merged.winsWith(Rank.FULL_HOUSE));
+        assertEquals(1, merged.winsWith(Rank.HIGH_CARD));
+    }
+
+    @Test
+    void addStrengths_strengthsOfDeals_sameCountsAsDeals() {
+        final var strengths = new int[]{
+                Rank.FLUSH.ordinal() << Rank.STRENGTH_SHIFT | 1, Rank.FLUSH.ordinal() << Rank.STRENGTH_SHIFT | 2, Rank.ONE_PAIR.ordinal() << Rank.STRENGTH_SHIFT,
+                Rank.HIGH_CARD.ordinal() << Rank.STRENGTH_SHIFT, Rank.ONE_PAIR.ordinal() << Rank.STRENGTH_SHIFT | 7, Rank.ONE_PAIR.ordinal() << Rank.STRENGTH_SHIFT | 7
+        };
+        final var tally = new DealTally();
+
+        tally.addStrengths(strengths, 3);
+
+        assertEquals(2, tally.dealCount());
+        assertEquals(List.of(0L, 1L, 0L), List.of(tally.winsOf(0), tally.winsOf(1), tally.winsOf(2)));
+        assertEquals(List.of(0L, 1L, 1L), List.of(tally.tiesOf(0), tally.tiesOf(1), tally.tiesOf(2)));
+        assertEquals(2, tally.lossesOf(0));
+        assertEquals(1, tally.winsWith(Rank.FLUSH));
+        assertEquals(1, tally.winsWith(Rank.ONE_PAIR));
+    }
+
+    @Test
+    void readFrom_writtenTally_sameCounts() throws IOException {
+        final var tally = new DealTally();
+        tally.add(deal("2C 3C AC 8C 9D", "6C 6D QC JC TC", "AD KD 5S 4H 3S"));
+        tally.add(deal("2C 3C 4C 5C 7D", "KC KD 2H 3H 4S", "KH KS 2D 3D 4H"));
+        final var bytes = new ByteArrayOutputStream();
+        tally.writeTo(new DataOutputStream(bytes));
+
+        final var read = DealTally.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertEquals(2, read.dealCount());
+        assertEquals(3, read.playerCount());
+        assertEquals(List.of(0L, 1L, 0L), List.of(read.winsOf(0), read.winsOf(1), read.winsOf(2)));
+        assertEquals(List.of(0L, 1L, 1L), List.of(read.tiesOf(0), read.tiesOf(1), read.tiesOf(2)));
+        assertEquals(2, read.lossesOf(0));
+        assertEquals(2, read.winsWith(Rank.ONE_PAIR));
+    }
+
+    private Deal deal(final String... hands) {
+        return new Deal(Stream.of(hands)
+                .map(handFromStringFactory)
+                .collect(Collectors.toUnmodifiableList()));
+    }
+}
@@ -0,0 +1,56 @@
+package com.github.grimsa.pokerhands;
+
+import com.github.grimsa.pokerhands.hand.HandFromFiveCardsFactory;
+import com.github.grimsa.pokerhands.hand.HandFromStringFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class DealTest {
+    private final HandFromStringFactory handFromStringFactory = new HandFromStringFactory(new HandFromFiveCardsFactory());
+
+    @Test
+    void isWonBy_singleBestHand_wonOnlyByItsHolder() {
+        final var deal = deal("2C 3C AC 8C 9D", "6C 6D QC JC TC", "AD KD 5S 4H 3S");
+
+        assertFalse(deal.isWonBy(0));
+        assertTrue(deal.isWonBy(1));
+        assertFalse(deal.isWonBy(2));
+        assertFalse(deal.isSplit());
+        assertEquals(0b010, deal.winners());
+        assertEquals(Rank.ONE_PAIR, deal.winningRank());
+    }
+
+    @Test
+    void isWonBy_splitPot_wonByNobody() {
+        final var deal = deal("2C 3C 4C 5C 7D", "KC KD 2H 3H 4S", "KH KS 2D 3D 4H");
+
+        assertTrue(deal.isSplit());
+        assertEquals(0b110, deal.winners());
+        assertFalse(deal.isWonBy(1));
+        assertFalse(deal.isWonBy(2));
+        assertTrue(deal.isTiedBy(1));
+        assertTrue(deal.isTiedBy(2));
+        assertFalse(deal.isTiedBy(0));
+        assertEquals(Rank.ONE_PAIR, deal.winningRank());
+    }
+
+    @Test
+    void isWonBy_playerOutOfRange_throws() {
+        final var deal = deal("2C 3C 4C 5C 7D", "KC KD 2H 3H 4S");
+
+        assertThrows(IndexOutOfBoundsException.class, () -> deal.isWonBy(2));
+    }
+
+    private Deal deal(final String... hands) {
+        return new Deal(Stream.of(hands)
+                .map(handFromStringFactory)
+                .collect(Collectors.toUnmodifiableList()));
+    }
+}
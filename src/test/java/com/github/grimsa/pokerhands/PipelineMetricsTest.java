@@ -0,0 +1,94 @@
+package com.github.grimsa.pokerhands;
+
+import com.github.grimsa.generic.ClasspathFile;
+import com.github.grimsa.pokerhands.PipelineMetrics.Stage;
+import com.github.grimsa.pokerhands.deal.TwoPlayerDealsFactory;
+import com.github.grimsa.pokerhands.hand.HandFromFiveCardsFactory;
+import com.github.grimsa.pokerhands.hand.HandFromStringFactory;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class PipelineMetricsTest {
+    private final PipelineMetrics metrics = new PipelineMetrics();
+
+    @Test
+    void stages_projectEulerDataset_counted() {
+        final var dealHistory = new DealHistory(new TwoPlayerDealsFactory(
+                metrics.timedRead(new ClasspathFile("p054_poker.txt")),
+                metrics.timedParse(HandFromStringFactory.fromCardMasks(metrics.timedEvaluation(new HandFromFiveCardsFactory())))
+        ));
+
+        final var tally = metrics.time(Stage.AGGREGATE, dealHistory::tally);
+
+        assertEquals(376, tally.winsOf(0));
+        assertEquals(1, metrics.countOf(Stage.READ));
+        assertEquals(2000, metrics.countOf(Stage.PARSE));
+        assertEquals(2000, metrics.countOf(Stage.EVALUATE));
+        assertEquals(1, metrics.countOf(Stage.AGGREGATE));
+        assertEquals(2000, Stream.of(Rank.values()).mapToLong(metrics::handsEvaluatedWith).sum());
+        assertEquals(2000, metrics.latencyOf(Stage.EVALUATE).count());
+        assertTrue(metrics.latencyOf(Stage.PARSE).valueAtPercentile(99) > 0);
+    }
+
+    @Test
+    void timedParse_malformedHand_failureCounted() {
+        final var parser = metrics.timedParse(HandFromStringFactory.fromCardMasks(new HandFromFiveCardsFactory()));
+
+        assertThrows(IllegalArgumentException.class, () -> parser.apply("2C 3C XC 8C 9D"));
+        assertEquals(1, metrics.parseFailureCount());
+        assertEquals(1, metrics.countOf(Stage.PARSE));
+    }
+
+    @Test
+    void disabled_functionsNotDecorated() {
+        final Function<String, Hand> parser = HandFromStringFactory.fromCardMasks(new HandFromFiveCardsFactory());
+        final LongFunction<Hand> evaluator = new HandFromFiveCardsFactory();
+
+        assertSame(parser, PipelineMetrics.disabled().timedParse(parser));
+        assertSame(evaluator, PipelineMetrics.disabled().timedEvaluation(evaluator));
+    }
+
+    @Test
+    void record_disabled_nothingRecorded() {
+        PipelineMetrics.disabled().record(PipelineMetrics.Stage.AGGREGATE, 1000);
+
+        assertEquals(0, PipelineMetrics.disabled().countOf(PipelineMetrics.Stage.AGGREGATE));
+        assertEquals(0, PipelineMetrics.disabled().latencyOf(PipelineMetrics.Stage.AGGREGATE).count());
+    }
+
+    @Test
+    void publishTo_sink_allMetricsPublished() {
+        metrics.timedParse(HandFromStringFactory.fromCardMasks(new HandFromFiveCardsFactory())).apply("2C 3C AC 8C 9D");
+        final var published = new HashMap<String, Long>();
+
+        metrics.publishTo(published::put);
+
+        assertEquals(1, (long) published.get("parse.count"));
+        assertEquals(0, (long) published.get("parse.failures"));
+        assertTrue(published.containsKey("evaluate.p99.nanos"));
+    }
+
+    @Test
+    void registerMBean_registered_countersReadable() throws Exception {
+        metrics.record(Stage.READ, 1000);
+
+        final var objectName = metrics.registerMBean("test");
+        try {
+            final var counters = ManagementFactory.getPlatformMBeanServer().getAttribute(objectName, "Counters");
+            assertTrue(counters.toString().contains("read.count"));
+            assertEquals(1000, (long) metrics.getLatenciesInNanos().get("read.max"));
+        } finally {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.github.grimsa.pokerhands;
+
+import com.github.grimsa.generic.ClasspathFile;
+import com.github.grimsa.generic.TextFile;
+import com.github.grimsa.pokerhands.deal.MappedDealFileReader;
+import com.github.grimsa.pokerhands.deal.TwoPlayerDealStreamFactory;
+import com.github.grimsa.pokerhands.hand.HandFromFiveCardsFactory;
+import com.github.grimsa.pokerhands.hand.HandFromStringFactory;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class StreamingDealHistoryTest {
+    @Test
+    void dealHistory_projectEulerDatasetFromClasspath_correctResults() {
+        final var dealHistory = new StreamingDealHistory(
+                new TwoPlayerDealStreamFactory(
+                        new ClasspathFile("p054_poker.txt")::lines,
+                        new HandFromStringFactory(new HandFromFiveCardsFactory())
+                )
+        );
+
+        assertEquals(1000, dealHistory.dealCount());
+        assertEquals(376, dealHistory.countWinsOfPlayer(0));
+        assertEquals(624, dealHistory.countWinsOfPlayer(1));
+    }
+
+    @Test
+    void dealHistory_projectEulerDatasetFromFilesystem_correctResults() throws URISyntaxException {
+        final var dealHistory = new StreamingDealHistory(
+                new TwoPlayerDealStreamFactory(
+                        new TextFile(projectEulerDataset()),
+                        new HandFromStringFactory(new HandFromFiveCardsFactory())
+                )
+        );
+
+        assertEquals(1000, dealHistory.dealCount());
+        assertEquals(376, dealHistory.countWinsOfPlayer(0));
+        assertEquals(624, dealHistory.countWinsOfPlayer(1));
+    }
+
+    @Test
+    void dealHistory_projectEulerDatasetMapped_correctResults() throws URISyntaxException {
+        final var dealHistory = new StreamingDealHistory(new MappedDealFileReader(projectEulerDataset()));
+
+        assertEquals(1000, dealHistory.dealCount());
+        assertEquals(376, dealHistory.countWinsOfPlayer(0));
+        assertEquals(624, dealHistory.countWinsOfPlayer(1));
+        assertEquals(376, dealHistory.tally().winsOf(0));
+    }
+
+    @Test
+    void dealHistory_projectEulerDatasetMappedInSegmentsWithWindowsLineEndings_correctResults() throws URISyntaxException, IOException {
+        final var datasetWithWindowsLineEndings = Files.createTempFile("p054_poker", ".txt");
+        Files.writeString(datasetWithWindowsLineEndings, String.join("\r\n", Files.readAllLines(projectEulerDataset())));
+
+        final var dealHistory = new StreamingDealHistory(new MappedDealFileReader(datasetWithWindowsLineEndings, 100));
+
+        assertEquals(1000, dealHistory.dealCount());
+        assertEquals(376, dealHistory.countWinsOfPlayer(0));
+        assertEquals(624, dealHistory.countWinsOfPlayer(1));
+        Files.delete(datasetWithWindowsLineEndings);
+    }
+
+    @Test
+    void dealHistory_mappedFileWithMalformedLine_throws() throws IOException {
+        final var malformedDataset = Files.createTempFile("malformed", ".txt");
+        Files.writeString(malformedDataset, "8C TS KC 9H 4S 7D 2S 5D 3S AC\n8C TS KC 9H 4S 7D 2S 5D 3S\n");
+
+        final var dealHistory = new StreamingDealHistory(new MappedDealFileReader(malformedDataset));
+
+        assertThrows(IllegalArgumentException.class, dealHistory::dealCount);
+        Files.delete(malformedDataset);
+    }
+
+    private Path projectEulerDataset() throws URISyntaxException {
+        return Path.of(getClass().getClassLoader().getResource("p054_poker.txt").toURI());
+    }
+}
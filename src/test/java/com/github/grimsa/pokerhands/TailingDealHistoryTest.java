@@ -0,0 +1,118 @@
+package com.github.grimsa.pokerhands;
+
+import com.github.grimsa.generic.TemporaryDirectory;
+import com.github.grimsa.pokerhands.deal.TwoPlayerDealFromStringFactory;
+import com.github.grimsa.pokerhands.hand.HandFromFiveCardsFactory;
+import com.github.grimsa.pokerhands.hand.HandFromStringFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class TailingDealHistoryTest {
+    private static final String PLAYER_2_WINS = "5H 5C 6S 7S KD 2C 3S 8S 8D TD\n";
+    private static final String PLAYER_1_WINS = "5D 8C 9S JS AC 2C 5C 7D 8S QH\n";
+
+    @RegisterExtension
+    final TemporaryDirectory directory = new TemporaryDirectory();
+
+    @Test
+    void refresh_projectEulerDataset_correctResults() throws URISyntaxException {
+        final var dealHistory = tailing(Path.of(getClass().getClassLoader().getResource("p054_poker.txt").toURI()));
+
+        assertEquals(1000, dealHistory.refresh());
+        assertEquals(376, dealHistory.countWinsOfPlayer(0));
+        assertEquals(624, dealHistory.countWinsOfPlayer(1));
+        assertEquals(0, dealHistory.refresh());
+        assertEquals(1000, dealHistory.dealCount());
+    }
+
+    @Test
+    void refresh_linesAppended_onlyNewDealsAdded() throws IOException {
+        final var dealFile = Files.writeString(directory.resolve("deals.txt"), PLAYER_2_WINS);
+        final var dealHistory = tailing(dealFile);
+        dealHistory.refresh();
+
+        Files.writeString(dealFile, PLAYER_1_WINS + PLAYER_1_WINS, StandardOpenOption.APPEND);
+
+        assertEquals(2, dealHistory.refresh());
+        assertEquals(3, dealHistory.dealCount());
+        assertEquals(2, dealHistory.countWinsOfPlayer(0));
+        assertEquals(1, dealHistory.countWinsOfPlayer(1));
+    }
+
+    @Test
+    void tally_refreshedAfterwards_returnedTallyUnchanged() throws IOException {
+        final var dealFile = Files.writeString(directory.resolve("deals.txt"), PLAYER_2_WINS);
+        final var dealHistory = tailing(dealFile);
+        dealHistory.refresh();
+        final var tally = dealHistory.tally();
+
+        Files.writeString(dealFile, PLAYER_1_WINS, StandardOpenOption.APPEND);
+        dealHistory.refresh();
+
+        assertEquals(1, tally.dealCount());
+        assertEquals(2, dealHistory.tally().dealCount());
+    }
+
+    @Test
+    void refresh_partialTrailingLine_readOnceComplete() throws IOException {
+        final var dealFile = Files.writeString(directory.resolve("deals.txt"), PLAYER_2_WINS + PLAYER_1_WINS.substring(0, 12));
+        final var dealHistory = tailing(dealFile);
+
+        assertEquals(1, dealHistory.refresh());
+        assertEquals(PLAYER_2_WINS.length(), dealHistory.offset());
+
+        Files.writeString(dealFile, PLAYER_1_WINS.substring(12, 29) + "\r\n", StandardOpenOption.APPEND);
+
+        assertEquals(1, dealHistory.refresh());
+        assertEquals(1, dealHistory.countWinsOfPlayer(0));
+        assertEquals(Files.size(dealFile), dealHistory.offset());
+    }
+
+    @Test
+    void refresh_malformedLineFollowedByValidLines_malformedLineSkippedAndReported() throws IOException {
+        final var malformedLine = "5H 5C 6S 7S KD 2C 3S 8S 8D";
+        final var dealFile = Files.writeString(directory.resolve("deals.txt"), PLAYER_2_WINS + malformedLine + "\n" + PLAYER_1_WINS);
+        final var rejectedLines = new ArrayList<String>();
+        final var dealHistory = new TailingDealHistory(dealFile, dealFactory(), (line, lineOffset) -> rejectedLines.add(lineOffset + ": " + line));
+
+        assertEquals(2, dealHistory.refresh());
+        Files.writeString(dealFile, PLAYER_1_WINS, StandardOpenOption.APPEND);
+        assertEquals(1, dealHistory.refresh());
+
+        assertEquals(3, dealHistory.dealCount());
+        assertEquals(2, dealHistory.countWinsOfPlayer(0));
+        assertEquals(1, dealHistory.rejectedLineCount());
+        assertEquals(List.of(PLAYER_2_WINS.length() + ": " + malformedLine), rejectedLines);
+        assertEquals(Files.size(dealFile), dealHistory.offset());
+    }
+
+    @Test
+    void refresh_fileTruncated_throws() throws IOException {
+        final var dealFile = Files.writeString(directory.resolve("deals.txt"), PLAYER_2_WINS);
+        final var dealHistory = tailing(dealFile);
+        dealHistory.refresh();
+
+        Files.writeString(dealFile, "");
+
+        assertThrows(IllegalStateException.class, dealHistory::refresh);
+    }
+
+    private static TailingDealHistory tailing(final Path dealFile) {
+        return new TailingDealHistory(dealFile, dealFactory());
+    }
+
+    private static TwoPlayerDealFromStringFactory dealFactory() {
+        return new TwoPlayerDealFromStringFactory(new HandFromStringFactory(new HandFromFiveCardsFactory()));
+    }
+}
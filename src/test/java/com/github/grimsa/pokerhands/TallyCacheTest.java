@@ -0,0 +1,197 @@
+package com.github.grimsa.pokerhands;
+
+import com.github.grimsa.generic.TemporaryDirectory;
+import com.github.grimsa.pokerhands.deal.MappedDealFileReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class TallyCacheTest {
+    private static final String DEAL = "8C TS KC 9H 4S 7D 2S 5D 3S AC\n";
+    private static final String OTHER_DEAL = "5C AD 5D AC 9C 7C 5H 8D TD KS\n";
+    private static final String PARAMETERS = "2 players";
+
+    @RegisterExtension
+    final TemporaryDirectory directory = new TemporaryDirectory();
+
+    private final AtomicInteger tallyCount = new AtomicInteger();
+
+    @Test
+    void tally_unchangedFile_talliedOnce() throws IOException {
+        final var cache = TallyCache.inDirectory(directory.resolve("cache"), 1 << 20);
+        final var dealFile = Files.writeString(directory.resolve("deals.txt"), DEAL);
+
+        final var first = cache.tally(dealFile, PARAMETERS, tallyOf(dealFile));
+        final var second = cache.tally(dealFile, PARAMETERS, tallyOf(dealFile));
+
+        assertEquals(1, tallyCount.get());
+        assertEquals(1, second.dealCount());
+        assertEquals(first.winsOf(1), second.winsOf(1));
+        assertEquals(first.winsWith(Rank.HIGH_CARD), second.winsWith(Rank.HIGH_CARD));
+    }
+
+    @Test
+    void tally_changedFile_talliedAgain() throws IOException {
+        final var cache = TallyCache.inDirectory(directory.resolve("cache"), 1 << 20);
+        final var dealFile = Files.writeString(directory.resolve("deals.txt"), DEAL);
+        cache.tally(dealFile, PARAMETERS, tallyOf(dealFile));
+
+        Files.writeString(dealFile, DEAL + OTHER_DEAL);
+        final var tally = cache.tally(dealFile, PARAMETERS, tallyOf(dealFile));
+
+        assertEquals(2, tallyCount.get());
+        assertEquals(2, tally.dealCount());
+    }
+
+    @Test
+    void tally_otherParameters_talliedAgain() throws IOException {
+        final var cache = TallyCache.inDirectory(directory.resolve("cache"), 1 << 20);
+        final var dealFile = Files.writeString(directory.resolve("deals.txt"), DEAL);
+        cache.tally(dealFile, PARAMETERS, tallyOf(dealFile));
+
+        cache.tally(dealFile, "other " + PARAMETERS, tallyOf(dealFile));
+        cache.tally(dealFile, PARAMETERS, tallyOf(dealFile));
+
+        assertEquals(2, tallyCount.get());
+    }
+
+    @Test
+    void tally_sizeLimitExceeded_leastRecentlyUsedEvicted() throws IOException {
+        final var cacheDirectory = directory.resolve("cache");
+        final var firstFile = Files.writeString(directory.resolve("first.txt"), DEAL);
+        final var secondFile = Files.writeString(directory.resolve("second.txt"), OTHER_DEAL);
+        TallyCache.inDirectory(cacheDirectory, 1 << 20).tally(firstFile, PARAMETERS, tallyOf(firstFile));
+        final var firstEntry = onlyEntryIn(cacheDirectory);
+        Files.setLastModifiedTime(firstEntry, FileTime.fromMillis(0));
+
+        final var cache = TallyCache.inDirectory(cacheDirectory, Files.size(firstEntry));
+        cache.tally(secondFile, PARAMETERS, tallyOf(secondFile));
+        cache.tally(secondFile, PARAMETERS, tallyOf(secondFile));
+        cache.tally(firstFile, PARAMETERS, tallyOf(firstFile));
+
+        assertEquals(3, tallyCount.get());
+    }
+
+    @Test
+    void tally_entryCannotBeEvicted_tallyReturned() throws IOException {
+        final var cacheDirectory = directory.resolve("cache");
+        final var blockedEntry = Files.createDirectories(cacheDirectory.resolve("blocked.tally"));
+        Files.writeString(blockedEntry.resolve("content"), DEAL);
+        Files.setLastModifiedTime(blockedEntry, FileTime.fromMillis(0));
+        final var dealFile = Files.writeString(directory.resolve("deals.txt"), DEAL);
+
+        final var tally = TallyCache.inDirectory(cacheDirectory, 0).tally(dealFile, PARAMETERS, tallyOf(dealFile));
+
+        assertEquals(1, tally.dealCount());
+        assertTrue(Files.exists(blockedEntry));
+    }
+
+    @Test
+    void tally_entryCannotBeWritten_tallyReturnedAndTemporaryFileDeleted() throws IOException {
+        final var cacheDirectory = directory.resolve("cache");
+        final var cache = TallyCache.inDirectory(cacheDirectory, 1 << 20);
+        final var dealFile = Files.writeString(directory.resolve("deals.txt"), DEAL);
+        cache.tally(dealFile, PARAMETERS, tallyOf(dealFile));
+        final var entry = onlyEntryIn(cacheDirectory);
+        Files.delete(entry);
+        Files.writeString(Files.createDirectory(entry).resolve("content"), DEAL);
+
+        final var tally = cache.tally(dealFile, PARAMETERS, tallyOf(dealFile));
+
+        assertEquals(1, tally.dealCount());
+        assertEquals(List.of(entry), entriesIn(cacheDirectory));
+    }
+
+    @Test
+    void tally_fileChangedWhileTallied_notCached() throws IOException {
+        final var cache = TallyCache.inDirectory(directory.resolve("cache"), 1 << 20);
+        final var dealFile = Files.writeString(directory.resolve("deals.txt"), DEAL);
+        final Supplier<DealTally> tallyThenChangeFile = () -> {
+            final var tally = tallyOf(dealFile).get();
+            try {
+                Files.writeString(dealFile, DEAL + OTHER_DEAL);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return tally;
+        };
+        cache.tally(dealFile, PARAMETERS, tallyThenChangeFile);
+
+        Files.writeString(dealFile, DEAL);
+        cache.tally(dealFile, PARAMETERS, tallyOf(dealFile));
+
+        assertEquals(2, tallyCount.get());
+    }
+
+    @Test
+    void tally_temporaryFilesLeftBehind_staleOnesDeleted() throws IOException {
+        final var cacheDirectory = directory.resolve("cache");
+        final var cache = TallyCache.inDirectory(cacheDirectory, 1 << 20);
+        final var staleFile = Files.writeString(cacheDirectory.resolve("stale.tally1.tmp"), DEAL);
+        Files.setLastModifiedTime(staleFile, FileTime.fromMillis(0));
+        final var freshFile = Files.writeString(cacheDirectory.resolve("fresh.tally2.tmp"), DEAL);
+        final var dealFile = Files.writeString(directory.resolve("deals.txt"), DEAL);
+
+        cache.tally(dealFile, PARAMETERS, tallyOf(dealFile));
+
+        assertFalse(Files.exists(staleFile));
+        assertTrue(Files.exists(freshFile));
+    }
+
+    @Test
+    void tally_bypassed_alwaysTallied() throws IOException {
+        final var cache = TallyCache.bypassed();
+        final var dealFile = Files.writeString(directory.resolve("deals.txt"), DEAL);
+
+        cache.tally(dealFile, PARAMETERS, tallyOf(dealFile));
+        cache.tally(dealFile, PARAMETERS, tallyOf(dealFile));
+
+        assertEquals(2, tallyCount.get());
+    }
+
+    @Test
+    void tally_damagedEntry_talliedAgain() throws IOException {
+        final var cacheDirectory = directory.resolve("cache");
+        final var cache = TallyCache.inDirectory(cacheDirectory, 1 << 20);
+        final var dealFile = Files.writeString(directory.resolve("deals.txt"), DEAL);
+        cache.tally(dealFile, PARAMETERS, tallyOf(dealFile));
+        Files.write(onlyEntryIn(cacheDirectory), new byte[]{0, 0, 0, 1, 0});
+
+        final var tally = cache.tally(dealFile, PARAMETERS, tallyOf(dealFile));
+
+        assertEquals(2, tallyCount.get());
+        assertEquals(1, tally.dealCount());
+    }
+
+    private static Path onlyEntryIn(final Path cacheDirectory) throws IOException {
+        try (var entries = Files.list(cacheDirectory)) {
+            return entries.findFirst().orElseThrow();
+        }
+    }
+
+    private static List<Path> entriesIn(final Path cacheDirectory) throws IOException {
+        try (var entries = Files.list(cacheDirectory)) {
+            return entries.collect(Collectors.toList());
+        }
+    }
+
+    private Supplier<DealTally> tallyOf(final Path dealFile) {
+        return () -> {
+            tallyCount.incrementAndGet();
+            return new StreamingDealHistory(new MappedDealFileReader(dealFile)).tally();
+        };
+    }
+}
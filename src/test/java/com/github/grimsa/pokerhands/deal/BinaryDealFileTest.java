@@ -0,0 +1,94 @@
+package com.github.grimsa.pokerhands.deal;
+
+import com.github.grimsa.generic.ClasspathFile;
+import com.github.grimsa.generic.TemporaryDirectory;
+import com.github.grimsa.pokerhands.DealTally;
+import com.github.grimsa.pokerhands.hand.HandStrengths;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class BinaryDealFileTest {
+    @RegisterExtension
+    final TemporaryDirectory directory = new TemporaryDirectory();
+
+    @Test
+    void convert_projectEulerDataset_sameResultsAsTextFile() throws IOException {
+        final var binaryFile = BinaryDealFile.convert(new ClasspathFile("p054_poker.txt")::lines, 2, directory.resolve("p054_poker.bin"));
+
+        assertEquals(BinaryDealFile.HEADER_LENGTH + 1000 * 2 * Integer.BYTES, Files.size(directory.resolve("p054_poker.bin")));
+        assertEquals(2, binaryFile.playerCount());
+        assertEquals(1000, binaryFile.dealCount());
+        final var tally = new DealTally();
+        try (var deals = binaryFile.get()) {
+            deals.forEach(tally::add);
+        }
+        assertEquals(1000, tally.dealCount());
+        assertEquals(376, tally.winsOf(0));
+        assertEquals(624, tally.winsOf(1));
+    }
+
+    @Test
+    void readAll_threePlayers_sameDealsAsTextFormat() {
+        final var lines = new String[]{
+                "2C 3C 4C 5C 7D 8C 8D 9H TS JS AS AH AD KS KH",
+                "AC KC QC JC TC 2D 3D 4D 5D 7H 6S 6H 6D 6C 2S"
+        };
+        final var binaryFile = BinaryDealFile.convert(() -> Stream.of(lines), 3, directory.resolve("deals.bin"));
+
+        final var tally = new DealTally();
+        binaryFile.readAll().forEach(tally::add);
+        assertEquals(2, tally.dealCount());
+        assertEquals(1, tally.winsOf(0));
+        assertEquals(1, tally.winsOf(2));
+    }
+
+    @Test
+    void readCardMasks_projectEulerDataset_sameResultsWhenEvaluatedInBatch() {
+        final var binaryFile = BinaryDealFile.convert(new ClasspathFile("p054_poker.txt")::lines, 2, directory.resolve("p054_poker.bin"));
+
+        final var cardMasks = binaryFile.readCardMasks();
+        final var strengths = new int[cardMasks.length];
+        HandStrengths.ofFiveCards(cardMasks, strengths);
+        final var tally = new DealTally();
+        tally.addStrengths(strengths, binaryFile.playerCount());
+
+        assertEquals(2000, cardMasks.length);
+        assertEquals(1000, tally.dealCount());
+        assertEquals(376, tally.winsOf(0));
+        assertEquals(624, tally.winsOf(1));
+    }
+
+    @Test
+    void encode_hand_decodedToSameCards() {
+        final var cardMask = 1L | 1L << 13 | 1L << 26 | 1L << 50 | 1L << 51;
+
+        assertEquals(cardMask, BinaryDealFile.decode(BinaryDealFile.encode(cardMask)));
+    }
+
+    @Test
+    void get_textFile_throws() throws IOException {
+        final var textFile = Files.writeString(directory.resolve("deals.txt"), "8C TS KC 9H 4S 7D 2S 5D 3S AC\n");
+
+        assertThrows(IllegalArgumentException.class, () -> new BinaryDealFile(textFile).get());
+    }
+
+    @Test
+    void get_truncatedFile_throws() throws IOException {
+        final var path = directory.resolve("deals.bin");
+        BinaryDealFile.convert(new ClasspathFile("p054_poker.txt")::lines, 2, path);
+        final var bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 3));
+
+        try (var deals = new BinaryDealFile(path).get()) {
+            assertThrows(IllegalArgumentException.class, deals::toArray);
+        }
+    }
+}
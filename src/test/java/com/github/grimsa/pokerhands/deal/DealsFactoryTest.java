@@ -0,0 +1,72 @@
+package com.github.grimsa.pokerhands.deal;
+
+import com.github.grimsa.generic.ClasspathFile;
+import com.github.grimsa.pokerhands.DealTally;
+import com.github.grimsa.pokerhands.hand.PackedHandFromFiveCardsFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class DealsFactoryTest {
+    private final PackedHandFromFiveCardsFactory handFactory = new PackedHandFromFiveCardsFactory();
+
+    @Test
+    void get_projectEulerDataset_sameResultsAsTwoPlayerDealsFactory() {
+        final var deals = new DealsFactory(new ClasspathFile("p054_poker.txt"), 2, handFactory).get();
+
+        final var tally = new DealTally();
+        deals.forEach(tally::add);
+        assertEquals(1000, tally.dealCount());
+        assertEquals(376, tally.winsOf(0));
+    }
+
+    @Test
+    void get_threePlayers_parsedInOrder() {
+        final var deals = new DealsFactory(() -> List.of(
+                "2C 3C 4C 5C 7D 8C 8D 9H TS JS AS AH AD KS KH",
+                "AC KC QC JC TC 2D 3D 4D 5D 7H 6S 6H 6D 6C 2S"
+        ), 3, handFactory).get();
+
+        final var tally = new DealTally();
+        deals.forEach(tally::add);
+        assertEquals(3, tally.playerCount());
+        assertEquals(1, tally.winsOf(0));
+        assertEquals(1, tally.winsOf(2));
+    }
+
+    @Test
+    void apply_cardDealtToTwoPlayers_throws() {
+        final var dealFactory = new DealFromStringFactory(2, handFactory);
+
+        assertThrows(IllegalArgumentException.class, () -> dealFactory.apply("2C 3C 4C 5C 7D 8C 8D 9H TS 2C"));
+    }
+
+    @Test
+    void apply_cardDealtTwiceToSamePlayer_throws() {
+        final var dealFactory = new DealFromStringFactory(2, handFactory);
+
+        assertThrows(IllegalArgumentException.class, () -> dealFactory.apply("2C 2C 4C 5C 7D 8C 8D 9H TS JS"));
+    }
+
+    @Test
+    void apply_lineOfOtherPlayerCount_throws() {
+        final var dealFactory = new DealFromStringFactory(3, handFactory);
+
+        assertThrows(IllegalArgumentException.class, () -> dealFactory.apply("2C 3C 4C 5C 7D 8C 8D 9H TS JS"));
+    }
+
+    @Test
+    void apply_handsNotSeparatedBySpace_throws() {
+        final var dealFactory = new DealFromStringFactory(2, handFactory);
+
+        assertThrows(IllegalArgumentException.class, () -> dealFactory.apply("2C 3C 4C 5C 7D_8C 8D 9H TS JS"));
+    }
+
+    @Test
+    void constructor_unsupportedPlayerCount_throws() {
+        assertThrows(IllegalArgumentException.class, () -> new DealFromStringFactory(11, handFactory));
+    }
+}
@@ -0,0 +1,102 @@
+package com.github.grimsa.pokerhands.deal;
+
+import com.github.grimsa.generic.ClasspathFile;
+import com.github.grimsa.pokerhands.DealTally;
+import com.github.grimsa.pokerhands.hand.PackedHandFromFiveCardsFactory;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+final class LenientDealsFactoryTest {
+    private final PackedHandFromFiveCardsFactory handFactory = new PackedHandFromFiveCardsFactory();
+    private final List<String> reportedSummaries = new ArrayList<>();
+
+    @Test
+    void get_projectEulerDatasetWithCorruptedLines_validDealsParsedAndCorruptedQuarantined() {
+        final var lines = new ClasspathFile("p054_poker.txt").get();
+        final var quarantine = new Quarantine(10);
+
+        final var deals = new LenientDealsFactory(() -> Stream.of(
+                Stream.of("8C TS KC 9H 4S 7D 2S 5D 3S"),
+                lines.stream(),
+                Stream.of("8C TS KC 9H 4S 7D 2S 5D 3S XC", "8C TS KC 9H 4S 8C 2S 5D 3S AC")
+        ).flatMap(stream -> stream), 2, handFactory, quarantine, reportedSummaries::add).get();
+
+        final var tally = new DealTally();
+        deals.forEach(tally::add);
+        assertEquals(1000, tally.dealCount());
+        assertEquals(376, tally.winsOf(0));
+        assertEquals(1000, quarantine.acceptedCount());
+        assertEquals(3, quarantine.rejectedCount());
+        assertEquals(List.of(1L, 1002L, 1003L), List.of(
+                quarantine.rejections().get(0).getLineNumber(),
+                quarantine.rejections().get(1).getLineNumber(),
+                quarantine.rejections().get(2).getLineNumber()));
+        assertEquals(List.of(Quarantine.Reason.WRONG_LENGTH, Quarantine.Reason.MALFORMED_CARD, Quarantine.Reason.DUPLICATE_CARD), List.of(
+                quarantine.rejections().get(0).getReason(),
+                quarantine.rejections().get(1).getReason(),
+                quarantine.rejections().get(2).getReason()));
+        assertEquals("Accepted 1000 lines, rejected 3 (WRONG_LENGTH: 1, MALFORMED_CARD: 1, DUPLICATE_CARD: 1)", quarantine.summary());
+    }
+
+    @Test
+    void get_moreRejectionsThanCapacity_allCountedAndFirstKept() {
+        final var quarantine = new Quarantine(2);
+
+        final var deals = new LenientDealsFactory(() -> Stream.of(
+                "2C 3C 4C 5C 7D_8C 8D 9H TS JS",
+                "2C 3C 4C 5C 7D 8C 8D 9H TS JS",
+                "2C 3C 4C 5C 7D 8C 8D 9H TS 2C",
+                "2C 3C 4C 5C 7D 8C 8D 9H TS 1S"
+        ), 2, handFactory, quarantine, reportedSummaries::add).get();
+
+        assertEquals(1, deals.size());
+        assertEquals(3, quarantine.rejectedCount());
+        assertEquals(2, quarantine.rejections().size());
+        assertEquals(Quarantine.Reason.MISSING_SEPARATOR, quarantine.rejections().get(0).getReason());
+        assertEquals("2C 3C 4C 5C 7D 8C 8D 9H TS 2C", quarantine.rejections().get(1).getLine());
+        assertEquals(1, quarantine.rejectedCount(Quarantine.Reason.MALFORMED_CARD));
+    }
+
+    @Test
+    void writeTo_rejections_lineNumberReasonAndLinePerLine() throws IOException {
+        final var quarantine = new Quarantine(10);
+        new LenientDealsFactory(() -> Stream.of("2C 3C 4C 5C 7D 8C 8D 9H TS JS", "garbage"), 2, handFactory, quarantine,
+                reportedSummaries::add).get();
+        final var file = Files.createTempFile("quarantine", ".tsv");
+
+        try {
+            quarantine.writeTo(file);
+
+            assertEquals(List.of("2\tWRONG_LENGTH\tgarbage"), Files.readAllLines(file));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void summary_nothingRejected_countsOnly() {
+        final var quarantine = new Quarantine(10);
+
+        new LenientDealsFactory(() -> Stream.of("2C 3C 4C 5C 7D 8C 8D 9H TS JS"), 2, handFactory, quarantine,
+                reportedSummaries::add).get();
+
+        assertEquals("Accepted 1 lines, rejected 0", quarantine.summary());
+    }
+
+    @Test
+    void get_linesParsed_summaryReportedOnce() {
+        final var quarantine = new Quarantine(10);
+
+        new LenientDealsFactory(() -> Stream.of("2C 3C 4C 5C 7D 8C 8D 9H TS JS", "garbage"), 2, handFactory, quarantine,
+                reportedSummaries::add).get();
+
+        assertEquals(List.of("Accepted 1 lines, rejected 1 (WRONG_LENGTH: 1)"), reportedSummaries);
+    }
+}
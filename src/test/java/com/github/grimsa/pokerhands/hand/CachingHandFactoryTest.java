@@ -0,0 +1,90 @@
+package com.github.grimsa.pokerhands.hand;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+final class CachingHandFactoryTest {
+    private static final long FLUSH = CardMask.parse("2C 3C AC 8C 9C");
+    private static final long FULL_HOUSE = CardMask.parse("2C 2D 2H 8C 8D");
+
+    @Test
+    void apply_sameCardsTwice_evaluatedOnce() {
+        final var factory = new CachingHandFactory(new PackedHandFromFiveCardsFactory(), 16);
+
+        final var first = factory.apply(FLUSH);
+        final var second = factory.apply(CardMask.toCards(FLUSH));
+
+        assertSame(first, second);
+        assertEquals(1, factory.hitCount());
+        assertEquals(1, factory.missCount());
+        assertEquals(0, factory.evictionCount());
+    }
+
+    @Test
+    void apply_otherCardsInOnlySlot_evicted() {
+        final var factory = new CachingHandFactory(new PackedHandFromFiveCardsFactory(), 1);
+
+        factory.apply(FLUSH);
+        factory.apply(FULL_HOUSE);
+        final var flush = factory.apply(FLUSH);
+
+        assertEquals(0, factory.hitCount());
+        assertEquals(3, factory.missCount());
+        assertEquals(2, factory.evictionCount());
+        assertEquals(0, flush.compareTo(new PackedHandFromFiveCardsFactory().apply(FLUSH)));
+    }
+
+    @Test
+    void apply_keyedBySuitIsomorphism_suitPermutationsShareHand() {
+        final var factory = CachingHandFactory.keyedBySuitIsomorphism(new PackedHandFromFiveCardsFactory(), 16);
+
+        final var clubs = factory.apply(FLUSH);
+        final var hearts = factory.apply(CardMask.parse("2H 3H AH 8H 9H"));
+
+        assertSame(clubs, hearts);
+        assertEquals(1, factory.hitCount());
+    }
+
+    @Test
+    void applyAsInt_keyedBySuitIsomorphism_sameStrengthsAsEvaluator() {
+        final var strengthFunction = CachingStrengthFunction.keyedBySuitIsomorphism(HandFromSevenCardsFactory::strength, 16);
+        final var sevenCards = CardMask.parse("2H 3H AH 8H 9H 2S 2D");
+
+        assertEquals(HandFromSevenCardsFactory.strength(sevenCards), strengthFunction.applyAsInt(sevenCards));
+        assertEquals(HandFromSevenCardsFactory.strength(sevenCards), strengthFunction.applyAsInt(CardMask.parse("2C 3C AC 8C 9C 2H 2S")));
+        assertEquals(1, strengthFunction.hitCount());
+    }
+
+    @Test
+    void applyAsInt_concurrentLookups_sameStrengthsAsEvaluator() throws Exception {
+        final var strengthFunction = new CachingStrengthFunction(PackedHandFromFiveCardsFactory::strength, 64);
+        final var cardMasks = IntStream.range(0, 1000)
+                .mapToLong(hand -> (hand % 2 == 0 ? FLUSH : FULL_HOUSE) << (hand % 3))
+                .toArray();
+
+        final var executor = Executors.newFixedThreadPool(4);
+        final var results = IntStream.range(0, 4)
+                .mapToObj(thread -> executor.submit(() -> {
+                    for (final long cardMask : cardMasks) {
+                        assertEquals(PackedHandFromFiveCardsFactory.strength(cardMask), strengthFunction.applyAsInt(cardMask));
+                    }
+                    return null;
+                }))
+                .collect(Collectors.toList());
+        for (final Future<?> result : results) {
+            result.get();
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.SECONDS);
+
+        assertEquals(4000, strengthFunction.hitCount() + strengthFunction.missCount());
+    }
+}
@@ -0,0 +1,107 @@
+package com.github.grimsa.pokerhands.hand;
+
+import com.github.grimsa.pokerhands.hand.Card.Suit;
+import com.github.grimsa.pokerhands.hand.Card.Value;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class CardMaskTest {
+    @Test
+    void parse_validCards_bitSetForEveryCard() {
+        final var cardMask = CardMask.parse("2C AS TD");
+
+        assertEquals(CardMask.of(Set.of(Card.of(Value.TWO, Suit.CLUB), Card.of(Value.ACE, Suit.SPADE), Card.of(Value.TEN, Suit.DIAMOND))), cardMask);
+        assertEquals(3, CardMask.size(cardMask));
+    }
+
+    @Test
+    void parse_rangeOfCharacters_onlyCardsInRange() {
+        assertEquals(CardMask.parse("AS TD"), CardMask.parse("2C AS TD 3H", 3, 8));
+    }
+
+    @Test
+    void parse_malformedCard_throws() {
+        assertThrows(IllegalArgumentException.class, () -> CardMask.parse("2C ASD"));
+        assertThrows(IllegalArgumentException.class, () -> CardMask.parse("2C XS"));
+        assertThrows(IllegalArgumentException.class, () -> CardMask.parse(""));
+    }
+
+    @Test
+    void parse_malformedCard_offendingCardReported() {
+        assertEquals("Expected a card representation of value and suite, got: ASD",
+                assertThrows(IllegalArgumentException.class, () -> CardMask.parse("2C ASD 3H")).getMessage());
+        assertEquals("Unknown symbol: X", assertThrows(IllegalArgumentException.class, () -> CardMask.parse("2C XS 3H")).getMessage());
+        assertEquals("Unknown symbol: Z", assertThrows(IllegalArgumentException.class, () -> CardMask.parse("2C AZ 3H")).getMessage());
+    }
+
+    @Test
+    void tryParse_malformedCard_invalid() {
+        assertEquals(CardMask.INVALID, CardMask.tryParse("2C ASD", 0, 6));
+        assertEquals(CardMask.INVALID, CardMask.tryParse("2C XS", 0, 5));
+        assertEquals(CardMask.INVALID, CardMask.tryParse("", 0, 0));
+        assertEquals(CardMask.parse("2C AS"), CardMask.tryParse("2C AS", 0, 5));
+    }
+
+    @Test
+    void toCards_cardMask_sameCards() {
+        final var cards = Set.of(Card.of(Value.TWO, Suit.CLUB), Card.of(Value.ACE, Suit.SPADE));
+
+        assertEquals(cards, CardMask.toCards(CardMask.of(cards)));
+    }
+
+    @Test
+    void valuesHeldAtLeast_fullHouse_valuesByCount() {
+        final var fullHouse = CardMask.parse("2C 2D 2H 8C 8D");
+
+        assertEquals(1 << Value.TWO.ordinal() | 1 << Value.EIGHT.ordinal(), CardMask.values(fullHouse));
+        assertEquals(1 << Value.TWO.ordinal() | 1 << Value.EIGHT.ordinal(), CardMask.valuesHeldAtLeast(fullHouse, 2));
+        assertEquals(1 << Value.TWO.ordinal(), CardMask.valuesHeldAtLeast(fullHouse, 3));
+        assertEquals(0, CardMask.valuesHeldAtLeast(fullHouse, 4));
+    }
+
+    @Test
+    void isSingleSuit_flushAndNonFlush_detected() {
+        assertTrue(CardMask.isSingleSuit(CardMask.parse("2D 5D TD 8D 7D")));
+        assertFalse(CardMask.isSingleSuit(CardMask.parse("2D 5D TD 8D 7S")));
+    }
+
+    @Test
+    void isStraight_values_detected() {
+        assertTrue(CardMask.isStraight(CardMask.values(CardMask.parse("4C 5C 6S 7C 8C"))));
+        assertFalse(CardMask.isStraight(CardMask.values(CardMask.parse("4C 5C 6S 7C 9C"))));
+    }
+
+    @Test
+    void canonical_suitsPermuted_sameCanonicalForm() {
+        final var canonical = CardMask.canonical(CardMask.parse("AH KH 2C 2S 9D"));
+
+        assertEquals(canonical, CardMask.canonical(CardMask.parse("AC KC 2D 2H 9S")));
+        assertEquals(canonical, CardMask.canonical(canonical));
+        assertEquals(CardMask.parse("AC KC 9D 2H 2S"), canonical);
+    }
+
+    @Test
+    void canonical_allFiveCardHands_strengthKeptAndHandsShrunk() {
+        final var canonicalHands = new HashSet<Long>();
+        for (long cardMask = 0b11111; cardMask < 1L << Card.COUNT; cardMask = nextWithSameCardCount(cardMask)) {
+            final var canonical = CardMask.canonical(cardMask);
+            assertEquals(PackedHandFromFiveCardsFactory.strength(cardMask), PackedHandFromFiveCardsFactory.strength(canonical));
+            canonicalHands.add(canonical);
+        }
+
+        assertEquals(134_459, canonicalHands.size());
+    }
+
+    private static long nextWithSameCardCount(final long cardMask) {
+        final var lowest = cardMask & -cardMask;
+        final var ripple = cardMask + lowest;
+        return ripple | ((cardMask ^ ripple) >>> 2) / lowest;
+    }
+}
@@ -1,5 +1,6 @@
 package com.github.grimsa.pokerhands.hand;
 
+import com.github.grimsa.pokerhands.hand.Card.Suit;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -8,8 +9,31 @@ import java.util.Set;
 
 import static com.github.grimsa.pokerhands.hand.Card.Value.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 final class CardTest {
+    @Test
+    void of_sameValueAndSuit_sameInstance() {
+        assertSame(Card.of(ACE, Suit.SPADE), Card.of(ACE, Suit.SPADE));
+    }
+
+    @Test
+    void ofIndex_everyIndex_cardWithThatIndex() {
+        for (int index = 0; index < Card.COUNT; index++) {
+            final var card = Card.ofIndex(index);
+
+            assertEquals(index, card.index());
+            assertEquals(index, card.hashCode());
+            assertSame(card, Card.of(card.getValue(), card.getSuit()));
+        }
+    }
+
+    @Test
+    void ofIndex_outOfRange_throws() {
+        assertThrows(IndexOutOfBoundsException.class, () -> Card.ofIndex(52));
+    }
+
     @Nested
     final class ValueTest {
         @Test
@@ -26,5 +50,33 @@ final class CardTest {
         void sortedDescending_always_sorted() {
             assertEquals(List.of(SIX, FOUR, TWO), sortedDescending(Set.of(FOUR, TWO, SIX)));
         }
+
+        @Test
+        void fromSymbol_knownSymbol_value() {
+            assertEquals(TEN, fromSymbol('T'));
+            assertEquals(ACE, fromSymbol((byte) 'A'));
+        }
+
+        @Test
+        void fromSymbol_unknownSymbol_throws() {
+            assertThrows(IllegalArgumentException.class, () -> fromSymbol('t'));
+            assertThrows(IllegalArgumentException.class, () -> fromSymbol('\u0100'));
+            assertThrows(IllegalArgumentException.class, () -> fromSymbol((byte) -1));
+        }
+    }
+
+    @Nested
+    final class SuitTest {
+        @Test
+        void fromSymbol_knownSymbol_suit() {
+            assertEquals(Suit.HEART, Suit.fromSymbol('H'));
+            assertEquals(Suit.SPADE, Suit.fromSymbol((byte) 'S'));
+        }
+
+        @Test
+        void fromSymbol_unknownSymbol_throws() {
+            assertThrows(IllegalArgumentException.class, () -> Suit.fromSymbol('X'));
+            assertThrows(IllegalArgumentException.class, () -> Suit.fromSymbol((byte) 0x80));
+        }
     }
 }
@@ -0,0 +1,65 @@
+package com.github.grimsa.pokerhands.hand;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class EquityFactoryTest {
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final EquityFactory equityFactory = new EquityFactory(pool);
+
+    @AfterEach
+    void shutDownPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    void exhaustive_oneCardToCome_outsDetermineEquity() {
+        final var equity = equityFactory.exhaustive(holeCards("AS AD", "KS KD"), CardMask.parse("2C 7H 9D QC"));
+
+        assertEquals(44, equity.boardCount());
+        assertEquals(42.0 / 44, equity.winProbabilityOf(0), 1e-9);
+        assertEquals(2.0 / 44, equity.winProbabilityOf(1), 1e-9);
+        assertEquals(2.0 / 44, equity.equityOf(1), 1e-9);
+    }
+
+    @Test
+    void exhaustive_boardPlaysForEveryone_potSplit() {
+        final var equity = equityFactory.exhaustive(holeCards("2S 3D", "4S 5D", "6S 7D"), CardMask.parse("AC KC QC JC TC"));
+
+        assertEquals(1, equity.boardCount());
+        assertEquals(0, equity.winProbabilityOf(0), 1e-9);
+        assertEquals(1, equity.tieProbabilityOf(2), 1e-9);
+        assertEquals(1.0 / 3, equity.equityOf(1), 1e-9);
+    }
+
+    @Test
+    void monteCarlo_preflop_closeToExhaustive() {
+        final var holeCards = holeCards("AS AH", "KD KC");
+
+        final var exhaustive = equityFactory.exhaustive(holeCards, 0);
+        final var monteCarlo = equityFactory.monteCarlo(holeCards, 0, 100_000, 54);
+
+        assertEquals(1_712_304, exhaustive.boardCount());
+        assertEquals(100_000, monteCarlo.boardCount());
+        assertEquals(exhaustive.equityOf(0), monteCarlo.equityOf(0), 0.01);
+        assertEquals(1, exhaustive.equityOf(0) + exhaustive.equityOf(1), 1e-9);
+    }
+
+    @Test
+    void exhaustive_cardDealtTwice_throws() {
+        assertThrows(IllegalArgumentException.class, () -> equityFactory.exhaustive(holeCards("AS AH", "AS KC"), 0));
+    }
+
+    private static long[] holeCards(final String... holeCardsOfPlayers) {
+        final var holeCards = new long[holeCardsOfPlayers.length];
+        for (int i = 0; i < holeCards.length; i++) {
+            holeCards[i] = CardMask.parse(holeCardsOfPlayers[i]);
+        }
+        return holeCards;
+    }
+}
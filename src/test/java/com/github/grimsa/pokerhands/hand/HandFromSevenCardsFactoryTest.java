@@ -0,0 +1,56 @@
+package com.github.grimsa.pokerhands.hand;
+
+import com.github.grimsa.pokerhands.Rank;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class HandFromSevenCardsFactoryTest {
+    private final HandFromSevenCardsFactory handFromSevenCardsFactory = new HandFromSevenCardsFactory();
+
+    @Test
+    void apply_sevenCards_bestFiveCardHand() {
+        assertEquals(Rank.STRAIGHT_FLUSH, rankOf("4C 5C 6C 7C 8C 9D TD"));
+        assertEquals(Rank.FOUR_OF_A_KIND, rankOf("2C 2D 2H 2S 8D 8C 8H"));
+        assertEquals(Rank.FULL_HOUSE, rankOf("2C 2D 2H 8S 8D 8C AH"));
+        assertEquals(Rank.FLUSH, rankOf("2D 5D TD 8D 7D 6S 4H"));
+        assertEquals(Rank.STRAIGHT, rankOf("4C 5C 6S 7C 8H 8D 8S"));
+        assertEquals(Rank.TWO_PAIRS, rankOf("6C 6D JC JD 5C 5D AH"));
+    }
+
+    @Test
+    void strength_randomSevenCards_sameAsBestOfAllFiveCardCombinations() {
+        final var random = new Random(54);
+        for (int sample = 0; sample < 200_000; sample++) {
+            long cardMask = 0;
+            while (CardMask.size(cardMask) < 7) {
+                cardMask |= 1L << random.nextInt(Card.COUNT);
+            }
+
+            assertEquals(bestOfAllFiveCardCombinations(cardMask), HandFromSevenCardsFactory.strength(cardMask));
+        }
+    }
+
+    @Test
+    void apply_notSevenCards_throws() {
+        assertThrows(IllegalArgumentException.class, () -> handFromSevenCardsFactory.apply(CardMask.parse("2C 2D 2H 2S 8D")));
+    }
+
+    private Rank rankOf(final String cards) {
+        return handFromSevenCardsFactory.apply(CardMask.parse(cards)).getRank();
+    }
+
+    private static int bestOfAllFiveCardCombinations(final long sevenCards) {
+        var bestStrength = Integer.MIN_VALUE;
+        for (long first = Long.lowestOneBit(sevenCards); first != 0; first = Long.lowestOneBit(sevenCards & -(first << 1))) {
+            for (long second = Long.lowestOneBit(sevenCards & -(first << 1)); second != 0; second = Long.lowestOneBit(sevenCards & -(second << 1))) {
+                final var fiveCards = sevenCards & ~first & ~second;
+                bestStrength = Math.max(bestStrength, PackedHandFromFiveCardsFactory.strength(fiveCards));
+            }
+        }
+        return bestStrength;
+    }
+}
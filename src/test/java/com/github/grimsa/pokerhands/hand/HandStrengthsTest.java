@@ -0,0 +1,66 @@
+package com.github.grimsa.pokerhands.hand;
+
+import com.github.grimsa.pokerhands.Rank;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class HandStrengthsTest {
+    @Test
+    void ofFiveCards_hands_sameStrengthsAsPackedHands() {
+        final var cardMasks = randomHands(5);
+        final var strengths = new int[cardMasks.length];
+
+        HandStrengths.ofFiveCards(cardMasks, strengths);
+
+        for (int hand = 0; hand < cardMasks.length; hand++) {
+            assertEquals(PackedHandFromFiveCardsFactory.strength(cardMasks[hand]), strengths[hand]);
+            assertEquals(new PackedHandFromFiveCardsFactory().apply(cardMasks[hand]).getRank(), Rank.ofStrength(strengths[hand]));
+        }
+    }
+
+    @Test
+    void ofSevenCards_hands_sameStrengthsAsSevenCardEvaluator() {
+        final var cardMasks = randomHands(7);
+        final var strengths = new int[cardMasks.length];
+
+        HandStrengths.ofSevenCards(cardMasks, strengths);
+
+        for (int hand = 0; hand < cardMasks.length; hand++) {
+            assertEquals(HandFromSevenCardsFactory.strength(cardMasks[hand]), strengths[hand]);
+        }
+    }
+
+    @Test
+    void ofFiveCards_tooFewStrengths_throws() {
+        assertThrows(IllegalArgumentException.class, () -> HandStrengths.ofFiveCards(new long[2], new int[1]));
+    }
+
+    @Test
+    void ofFiveCards_maskOfOtherCardCount_throws() {
+        final var cardMasks = new long[]{CardMask.parse("2C 3C 4C 5C 7D"), CardMask.parse("2C 3C 4C 5C 7D 8D")};
+
+        assertThrows(IllegalArgumentException.class, () -> HandStrengths.ofFiveCards(cardMasks, new int[2]));
+    }
+
+    @Test
+    void ofSevenCards_maskBeyondLastCard_throws() {
+        final var cardMasks = new long[]{CardMask.parse("2C 3C 4C 5C 7D") | 1L << 60};
+
+        assertThrows(IllegalArgumentException.class, () -> HandStrengths.ofSevenCards(cardMasks, new int[1]));
+    }
+
+    private static long[] randomHands(final int cardCount) {
+        final var random = new Random(54);
+        final var cardMasks = new long[1000];
+        for (int hand = 0; hand < cardMasks.length; hand++) {
+            while (CardMask.size(cardMasks[hand]) < cardCount) {
+                cardMasks[hand] |= 1L << random.nextInt(Card.COUNT);
+            }
+        }
+        return cardMasks;
+    }
+}
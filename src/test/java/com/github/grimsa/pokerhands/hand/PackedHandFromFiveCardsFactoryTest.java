@@ -0,0 +1,88 @@
+package com.github.grimsa.pokerhands.hand;
+
+import com.github.grimsa.pokerhands.Hand;
+import com.github.grimsa.pokerhands.hand.Card.Suit;
+import com.github.grimsa.pokerhands.hand.Card.Value;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class PackedHandFromFiveCardsFactoryTest {
+    private final HandFromFiveCardsFactory handFromFiveCardsFactory = new HandFromFiveCardsFactory();
+    private final PackedHandFromFiveCardsFactory packedHandFactory = new PackedHandFromFiveCardsFactory();
+
+    @Test
+    void apply_sameCards_sameOrderingAsHandFromFiveCardsFactory() {
+        final var hands = List.of(
+                Set.of(card("2C"), card("3C"), card("AC"), card("8C"), card("9D")),
+                Set.of(card("6C"), card("6D"), card("QC"), card("JC"), card("TC")),
+                Set.of(card("6C"), card("6D"), card("JC"), card("JD"), card("5C")),
+                Set.of(card("AC"), card("KC"), card("5D"), card("5H"), card("5C")),
+                Set.of(card("4C"), card("5C"), card("6S"), card("7C"), card("8C")),
+                Set.of(card("2D"), card("5D"), card("TD"), card("8D"), card("7D")),
+                Set.of(card("2C"), card("2D"), card("2H"), card("8C"), card("8D")),
+                Set.of(card("2C"), card("2D"), card("2H"), card("2S"), card("8D")),
+                Set.of(card("4C"), card("5C"), card("6C"), card("7C"), card("8C"))
+        );
+
+        for (final var first : hands) {
+            for (final var second : hands) {
+                assertEquals(
+                        Integer.signum(handFromFiveCardsFactory.apply(first).compareTo(handFromFiveCardsFactory.apply(second))),
+                        Integer.signum(packedHandFactory.apply(first).compareTo(packedHandFactory.apply(second)))
+                );
+            }
+        }
+    }
+
+    @Test
+    void strength_allFiveCardHands_sameOrderingAsHandFromFiveCardsFactory() {
+        final var representativeHandsByStrength = new TreeMap<Integer, Hand>();
+        forEachFiveCardHand((cards, strength) -> {
+            final var hand = handFromFiveCardsFactory.apply(cards);
+            assertEquals(strength, ((HandFromFiveCardsFactory.BaseHand) hand).strength());
+            final var representative = representativeHandsByStrength.putIfAbsent(strength, hand);
+            if (representative != null) {
+                assertEquals(0, hand.compareTo(representative), "Hands of equal strength must be equal: " + cards);
+            }
+        });
+
+        assertEquals(7462, representativeHandsByStrength.size());
+        final var representativesInStrengthOrder = new ArrayList<>(representativeHandsByStrength.values());
+        for (int i = 1; i < representativesInStrengthOrder.size(); i++) {
+            assertTrue(representativesInStrengthOrder.get(i).compareTo(representativesInStrengthOrder.get(i - 1)) > 0);
+        }
+    }
+
+    private static void forEachFiveCardHand(final HandConsumer consumer) {
+        for (int a = 0; a < 52; a++) {
+            for (int b = a + 1; b < 52; b++) {
+                for (int c = b + 1; c < 52; c++) {
+                    for (int d = c + 1; d < 52; d++) {
+                        for (int e = d + 1; e < 52; e++) {
+                            consumer.accept(
+                                    Set.of(Card.ofIndex(a), Card.ofIndex(b), Card.ofIndex(c), Card.ofIndex(d), Card.ofIndex(e)),
+                                    PackedHandFromFiveCardsFactory.strength(a, b, c, d, e)
+                            );
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static Card card(final String symbols) {
+        return Card.of(Value.fromSymbol(symbols.charAt(0)), Suit.fromSymbol(symbols.charAt(1)));
+    }
+
+    @FunctionalInterface
+    private interface HandConsumer {
+        void accept(Set<Card> cards, int strength);
+    }
+}
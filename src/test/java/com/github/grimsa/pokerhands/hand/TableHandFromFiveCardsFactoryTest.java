@@ -0,0 +1,45 @@
+package com.github.grimsa.pokerhands.hand;
+
+import com.github.grimsa.pokerhands.hand.Card.Suit;
+import com.github.grimsa.pokerhands.hand.Card.Value;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+final class TableHandFromFiveCardsFactoryTest {
+    @Test
+    void strength_allFiveCardHands_sameAsPackedHandFromFiveCardsFactory() {
+        for (int a = 0; a < 52; a++) {
+            for (int b = a + 1; b < 52; b++) {
+                for (int c = b + 1; c < 52; c++) {
+                    for (int d = c + 1; d < 52; d++) {
+                        for (int e = d + 1; e < 52; e++) {
+                            assertEquals(
+                                    PackedHandFromFiveCardsFactory.strength(a, b, c, d, e),
+                                    TableHandFromFiveCardsFactory.strength(a, b, c, d, e)
+                            );
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void apply_handsFromBothFactories_comparable() {
+        final var fullHouse = Set.of(card("2C"), card("2D"), card("2H"), card("8C"), card("8D"));
+        final var flush = Set.of(card("2D"), card("5D"), card("TD"), card("8D"), card("7D"));
+
+        final var tableFullHouse = new TableHandFromFiveCardsFactory().apply(fullHouse);
+        final var packedFlush = new PackedHandFromFiveCardsFactory().apply(flush);
+
+        assertEquals(1, tableFullHouse.compareTo(packedFlush));
+        assertEquals(0, tableFullHouse.compareTo(new PackedHandFromFiveCardsFactory().apply(fullHouse)));
+    }
+
+    private static Card card(final String symbols) {
+        return Card.of(Value.fromSymbol(symbols.charAt(0)), Suit.fromSymbol(symbols.charAt(1)));
+    }
+}